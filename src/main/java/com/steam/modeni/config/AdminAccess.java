@@ -0,0 +1,33 @@
+package com.steam.modeni.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 전용 API 접근 확인 (admin.user-ids에 등록된 사용자ID만 허용)
+ */
+@Component
+public class AdminAccess {
+    
+    @Value("${admin.user-ids:}") // 관리자 사용자ID 목록 (쉼표 구분)
+    private List<String> adminUserIds;
+    
+    public boolean isAdmin(AuthenticatedUser principal) {
+        return principal != null && adminUserIds.contains(principal.userId());
+    }
+    
+    /**
+     * 관리자가 아닐 때 돌려줄 403 응답
+     */
+    public ResponseEntity<Map<String, Object>> forbidden() {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", "관리자만 사용할 수 있습니다.");
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+    }
+}
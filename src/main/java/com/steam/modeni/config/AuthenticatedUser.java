@@ -0,0 +1,8 @@
+package com.steam.modeni.config;
+
+/**
+ * JWT 클레임으로 만든 인증 사용자 정보 (DB 조회 없이 컨트롤러에서 @AuthenticationPrincipal로 주입)
+ * familyCode는 토큰 발급 시점 기준이며 가족 이동 시 토큰을 재발급함
+ */
+public record AuthenticatedUser(Long id, String userId, String familyCode) {
+}
@@ -0,0 +1,275 @@
+package com.steam.modeni.config;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 인스턴스가 공유하는 JWT 서명 키 목록 (PKCS12 키스토어 파일)
+ * - 별칭(kid)별 HMAC 키를 보관하며 검증은 kid로 바로 조회
+ * - 주기적으로 파일을 다시 읽어 다른 인스턴스가 추가한 키를 반영
+ * - 회전 주기가 지나면 파일 잠금 후 새 키를 추가하고, 다음 키로 바뀐 뒤 토큰 만료 시간까지 지난 키는 제거
+ * - 새 키는 추가 후 재로드 주기 두 번이 지나 모든 인스턴스가 읽은 뒤부터 서명에 사용
+ *   (그 전에 서명하면 아직 키를 모르는 인스턴스가 토큰을 거부함), 모르는 kid는 한 번 다시 읽고 판단
+ */
+@Component
+public class JwtKeyRing {
+    
+    private static final SecureRandom RANDOM = new SecureRandom();
+    
+    // 모르는 kid로 키스토어를 다시 읽는 최소 간격 (임의 kid 토큰으로 파일을 반복해서 읽지 않도록)
+    private static final long UNKNOWN_KID_RELOAD_INTERVAL_MS = 1000L;
+    
+    @Value("${jwt.keystore.path:./data/jwt-keys.p12}")
+    private String keystorePath;
+    
+    @Value("${jwt.keystore.password:changeit}")
+    private String keystorePassword;
+    
+    @Value("${jwt.key-rotation.interval-ms:604800000}") // 7일
+    private long rotationIntervalMillis;
+    
+    @Value("${jwt.key-rotation.check-interval-ms:60000}")
+    private long checkIntervalMillis;
+    
+    @Value("${jwt.expiration:86400000}")
+    private long jwtExpiration;
+    
+    // kid -> 키 (교체 시 통째로 바꾸는 불변 맵)
+    private volatile Map<String, SecretKey> keys = Map.of();
+    private volatile String signingKid;
+    private volatile long newestCreatedAt;
+    private volatile long lastUnknownKidReloadAt;
+    
+    @PostConstruct
+    void init() {
+        try {
+            rotateIfDue();
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 키스토어를 불러올 수 없습니다: " + keystorePath, e);
+        }
+    }
+    
+    /**
+     * 서명에 사용할 현재 키의 kid
+     */
+    public String getSigningKid() {
+        return signingKid;
+    }
+    
+    /**
+     * 서명에 사용할 현재 키
+     */
+    public Key getSigningKey() {
+        return keys.get(signingKid);
+    }
+    
+    /**
+     * kid로 검증 키 조회 (없으면 null)
+     * 알고 있는 키보다 새로운 kid면 다른 인스턴스가 방금 추가한 키일 수 있으므로 키스토어를 한 번 다시 읽음
+     */
+    public Key getKey(String kid) {
+        if (kid == null) {
+            return null;
+        }
+        Key key = keys.get(kid);
+        if (key != null || !mayBeNewerKey(kid)) {
+            return key;
+        }
+        try {
+            reload();
+        } catch (IOException | GeneralSecurityException e) {
+            System.out.println("❌ JWT 키스토어 다시 읽기 실패: " + e.getMessage());
+        }
+        return keys.get(kid);
+    }
+    
+    /**
+     * 다른 인스턴스가 회전한 키를 반영하고, 회전 주기가 지났으면 새 키 추가
+     */
+    @Scheduled(fixedDelayString = "${jwt.key-rotation.check-interval-ms:60000}")
+    public void reloadAndRotate() {
+        try {
+            rotateIfDue();
+        } catch (IOException | GeneralSecurityException e) {
+            System.out.println("❌ JWT 키스토어 갱신 실패 (기존 키 유지): " + e.getMessage());
+        }
+    }
+    
+    private boolean mayBeNewerKey(String kid) {
+        long now = System.currentTimeMillis();
+        long createdAt = createdAtOf(kid);
+        return createdAt > newestCreatedAt && createdAt <= now
+                && now - lastUnknownKidReloadAt >= UNKNOWN_KID_RELOAD_INTERVAL_MS;
+    }
+    
+    private synchronized void reload() throws IOException, GeneralSecurityException {
+        lastUnknownKidReloadAt = System.currentTimeMillis();
+        KeyStore keyStore = readKeyStore();
+        if (keyStore != null) {
+            apply(keyStore);
+        }
+    }
+    
+    private synchronized void rotateIfDue() throws IOException, GeneralSecurityException {
+        KeyStore keyStore = readKeyStore();
+        if (keyStore != null && !isRotationDue(keyStore)) {
+            apply(keyStore);
+            return;
+        }
+        updateKeystore();
+    }
+    
+    // 인스턴스 간 동시 회전을 막기 위해 잠금 파일을 잡은 채로 다시 읽고 판단
+    private void updateKeystore() throws IOException, GeneralSecurityException {
+        Path path = Paths.get(keystorePath);
+        if (path.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+        }
+        Path lockPath = Paths.get(keystorePath + ".lock");
+        try (FileChannel channel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock lock = channel.lock()) {
+            KeyStore keyStore = readKeyStore();
+            if (keyStore == null) {
+                keyStore = KeyStore.getInstance("PKCS12");
+                keyStore.load(null, null);
+            }
+            
+            boolean changed = removeRetiredKeys(keyStore);
+            if (isRotationDue(keyStore)) {
+                String kid = newKid();
+                keyStore.setEntry(kid, new KeyStore.SecretKeyEntry(Keys.secretKeyFor(SignatureAlgorithm.HS256)),
+                        new KeyStore.PasswordProtection(keystorePassword.toCharArray()));
+                changed = true;
+                System.out.println("🔑 JWT 서명 키 추가: " + kid);
+            }
+            if (changed) {
+                writeKeyStore(keyStore, path);
+            }
+            apply(keyStore);
+        }
+    }
+    
+    private KeyStore readKeyStore() throws IOException, GeneralSecurityException {
+        Path path = Paths.get(keystorePath);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = Files.newInputStream(path)) {
+            keyStore.load(in, keystorePassword.toCharArray());
+        }
+        return keyStore;
+    }
+    
+    private void writeKeyStore(KeyStore keyStore, Path path) throws IOException, GeneralSecurityException {
+        Path temp = Paths.get(keystorePath + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            keyStore.store(out, keystorePassword.toCharArray());
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    // 키스토어 내용을 불변 맵으로 만들어 교체
+    // 공개 대기 시간이 지난 키 중 가장 최근 키로 서명 (공개된 키가 없으면 처음 만든 키이므로 가장 최근 키)
+    private void apply(KeyStore keyStore) throws GeneralSecurityException {
+        long publishedBefore = System.currentTimeMillis() - publishDelayMillis();
+        Map<String, SecretKey> loaded = new LinkedHashMap<>();
+        String newestKid = null;
+        String newestPublishedKid = null;
+        Enumeration<String> aliases = keyStore.aliases();
+        while (aliases.hasMoreElements()) {
+            String kid = aliases.nextElement();
+            Key key = keyStore.getKey(kid, keystorePassword.toCharArray());
+            if (!(key instanceof SecretKey)) {
+                continue;
+            }
+            loaded.put(kid, Keys.hmacShaKeyFor(key.getEncoded()));
+            if (newestKid == null || createdAtOf(kid) > createdAtOf(newestKid)) {
+                newestKid = kid;
+            }
+            if (createdAtOf(kid) <= publishedBefore
+                    && (newestPublishedKid == null || createdAtOf(kid) > createdAtOf(newestPublishedKid))) {
+                newestPublishedKid = kid;
+            }
+        }
+        if (newestKid == null) {
+            throw new GeneralSecurityException("키스토어에 사용할 수 있는 서명 키가 없습니다.");
+        }
+        
+        keys = Collections.unmodifiableMap(loaded);
+        newestCreatedAt = createdAtOf(newestKid);
+        signingKid = newestPublishedKid != null ? newestPublishedKid : newestKid;
+    }
+    
+    // 모든 인스턴스가 재로드 주기마다 파일을 읽으므로 두 주기가 지나면 새 키가 모두에게 공개됨
+    private long publishDelayMillis() {
+        return 2 * checkIntervalMillis;
+    }
+    
+    private boolean isRotationDue(KeyStore keyStore) throws GeneralSecurityException {
+        long newest = -1L;
+        Enumeration<String> aliases = keyStore.aliases();
+        while (aliases.hasMoreElements()) {
+            newest = Math.max(newest, createdAtOf(aliases.nextElement()));
+        }
+        return newest < 0 || System.currentTimeMillis() - newest >= rotationIntervalMillis;
+    }
+    
+    // 다음 키가 서명에 쓰이기 시작한 뒤(공개 대기 + 재로드 주기) 토큰 만료 시간까지 지난 키는
+    // 더 이상 검증에 쓰이지 않으므로 제거
+    private boolean removeRetiredKeys(KeyStore keyStore) throws GeneralSecurityException {
+        List<String> kids = Collections.list(keyStore.aliases());
+        kids.sort(Comparator.comparingLong(JwtKeyRing::createdAtOf));
+        long now = System.currentTimeMillis();
+        boolean removed = false;
+        for (int i = 0; i < kids.size() - 1; i++) {
+            long successorSigningFrom = createdAtOf(kids.get(i + 1)) + publishDelayMillis() + checkIntervalMillis;
+            if (now - successorSigningFrom >= jwtExpiration) {
+                keyStore.deleteEntry(kids.get(i));
+                removed = true;
+                System.out.println("🗑️ JWT 서명 키 제거: " + kids.get(i));
+            }
+        }
+        return removed;
+    }
+    
+    // kid = 생성 시각(36진수) + "-" + 임의값, 생성 시각을 kid에서 바로 알 수 있음
+    private static String newKid() {
+        return Long.toString(System.currentTimeMillis(), 36) + "-" + Integer.toHexString(RANDOM.nextInt(0x10000));
+    }
+    
+    private static long createdAtOf(String kid) {
+        int separator = kid.indexOf('-');
+        try {
+            return Long.parseLong(separator > 0 ? kid.substring(0, separator) : kid, 36);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
@@ -1,63 +1,152 @@
 package com.steam.modeni.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
     
-    private final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    private final JwtKeyRing keyRing;
+    
+    // 파서는 불변이며 스레드 안전하므로 한 번만 생성하여 재사용 (검증 키는 헤더의 kid로 키 목록에서 조회)
+    private final JwtParser parser;
     
     @Value("${jwt.expiration:86400000}") // 24시간 (밀리초)
     private long jwtExpiration;
     
-    public String generateToken(String username, Long userId) {
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+    
+    // 서명 검증이 끝난 토큰의 Claims (키: 토큰의 SHA-256, 토큰 만료 시각에 함께 만료)
+    private Cache<String, Claims> verifiedClaimsCache;
+    
+    public JwtUtil(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = keyRing.getKey(header.getKeyId());
+                        if (key == null) {
+                            throw new JwtException("알 수 없는 서명 키입니다: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
+    
+    @PostConstruct
+    void initCache() {
+        verifiedClaimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String tokenHash, Claims claims, long currentTime) {
+                        return remainingNanos(claims);
+                    }
+                    
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+                        return remainingNanos(claims);
+                    }
+                    
+                    @Override
+                    public long expireAfterRead(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+    
+    public String generateToken(String username, Long userId, String familyCode) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
         
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getSigningKid())
                 .setSubject(username)
                 .claim("userId", userId)
+                .claim("familyCode", familyCode)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(key)
+                .signWith(keyRing.getSigningKey())
                 .compact();
     }
     
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * 서명이 검증된 Claims 조회 (같은 토큰은 만료 전까지 캐시에서 반환)
+     * 검증에 실패한 토큰은 캐시하지 않고 JwtException 그대로 전달
+     */
+    public Claims getClaims(String token) {
+        String tokenHash = hash(token);
+        Claims cached = verifiedClaimsCache.getIfPresent(tokenHash);
+        if (cached != null) {
+            // 캐시 만료 직전의 경계 시점에도 만료된 토큰은 통과시키지 않음
+            if (cached.getExpiration() == null || cached.getExpiration().after(new Date())) {
+                return cached;
+            }
+            verifiedClaimsCache.invalidate(tokenHash);
+        }
         
-        return claims.getSubject();
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        verifiedClaimsCache.put(tokenHash, claims);
+        return claims;
+    }
+    
+    public String getUsernameFromToken(String token) {
+        return getClaims(token).getSubject();
     }
     
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        
-        return claims.get("userId", Long.class);
+        return getClaims(token).get("userId", Long.class);
+    }
+    
+    public String getFamilyCodeFromToken(String token) {
+        return getClaims(token).get("familyCode", String.class);
     }
     
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
+            getClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
-} 
\ No newline at end of file
+    
+    // 만료 시각이 없는 토큰은 발급 만료 시간만큼만 캐시
+    private long remainingNanos(Claims claims) {
+        Date expiration = claims.getExpiration();
+        long remainingMillis = expiration != null 
+                ? expiration.getTime() - System.currentTimeMillis() 
+                : jwtExpiration;
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+    }
+    
+    private static String hash(String token) {
+        if (token == null) {
+            throw new IllegalArgumentException("토큰이 비어 있습니다.");
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.steam.modeni.controller;
+
+import com.steam.modeni.config.AdminAccess;
+import com.steam.modeni.config.AuthenticatedUser;
+import com.steam.modeni.service.UserImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class AdminController {
+    
+    private final UserImportService userImportService;
+    private final AdminAccess adminAccess;
+    
+    // 요청 본문(NDJSON)을 읽으면서 바로 처리
+    @PostMapping(value = "/users/import", consumes = {"application/x-ndjson", "text/plain"})
+    public ResponseEntity<Map<String, Object>> importUsers(HttpServletRequest request,
+                                                           @AuthenticationPrincipal AuthenticatedUser principal) {
+        if (!adminAccess.isAdmin(principal)) {
+            return adminAccess.forbidden();
+        }
+        try {
+            return ResponseEntity.ok(userImportService.importUsers(request.getInputStream()));
+        } catch (IOException | RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+}
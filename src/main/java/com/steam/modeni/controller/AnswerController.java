@@ -1,11 +1,20 @@
 package com.steam.modeni.controller;
 
+import com.steam.modeni.config.AdminAccess;
+import com.steam.modeni.config.AuthenticatedUser;
 import com.steam.modeni.dto.AnswerResponse;
+import com.steam.modeni.dto.AnswerTimelineResponse;
+import com.steam.modeni.service.AnswerSearchIndex;
 import com.steam.modeni.service.AnswerService;
+import com.steam.modeni.service.FamilyDirectory;
+import com.steam.modeni.service.FamilyDayStatsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,9 +25,14 @@ import java.util.Map;
 public class AnswerController {
     
     private final AnswerService answerService;
+    private final FamilyDayStatsService familyDayStatsService;
+    private final AnswerSearchIndex answerSearchIndex;
+    private final FamilyDirectory familyDirectory;
+    private final AdminAccess adminAccess;
     
     @PostMapping
-    public ResponseEntity<Map<String, Object>> createAnswer(@RequestBody Map<String, Object> request) {
+    public ResponseEntity<Map<String, Object>> createAnswer(@RequestBody Map<String, Object> request,
+                                                            @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
             // 다양한 필드명 형태를 지원
             Long questionId = null;
@@ -38,10 +52,18 @@ public class AnswerController {
                 userId = Long.valueOf(request.get("userId").toString());
             } else if (request.get("user_id") != null) {
                 userId = Long.valueOf(request.get("user_id").toString());
-            } else {
+            } else if (principal == null) {
                 throw new RuntimeException("userId 또는 user_id가 필요합니다.");
             }
             
+            // 인증된 요청은 토큰의 사용자로만 답변 가능
+            if (principal != null) {
+                if (userId != null && !userId.equals(principal.id())) {
+                    throw new RuntimeException("다른 사용자로 답변할 수 없습니다.");
+                }
+                userId = principal.id();
+            }
+            
             String content = (String) request.get("content");
             if (content == null || content.trim().isEmpty()) {
                 throw new RuntimeException("content가 필요합니다.");
@@ -57,6 +79,56 @@ public class AnswerController {
         }
     }
     
+    @GetMapping
+    public ResponseEntity<Object> getAnswersByQuestions(@RequestParam List<Long> questionIds,
+                                                        @RequestParam String familyCode,
+                                                        @AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            checkFamilyAccess(principal, familyCode);
+            Map<Long, List<AnswerResponse>> answers = answerService.getAnswersByQuestions(questionIds, familyCode);
+            return ResponseEntity.ok(answers);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+    
+    @GetMapping("/search")
+    public ResponseEntity<Object> searchAnswers(@RequestParam String familyCode,
+                                                @RequestParam String q,
+                                                @RequestParam(required = false) Integer size,
+                                                @AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            checkFamilyAccess(principal, familyCode);
+            List<AnswerResponse> answers = answerService.searchAnswers(familyCode, q, size);
+            return ResponseEntity.ok(answers);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+    
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildSearchIndex(@AuthenticationPrincipal AuthenticatedUser principal) {
+        if (!adminAccess.isAdmin(principal)) {
+            return adminAccess.forbidden();
+        }
+        try {
+            return ResponseEntity.ok(answerSearchIndex.rebuild());
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+    
+    @GetMapping("/search/status")
+    public ResponseEntity<Map<String, Object>> getSearchIndexStatus() {
+        return ResponseEntity.ok(answerSearchIndex.getStatus());
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<AnswerResponse> getAnswerById(@PathVariable Long id) {
         try {
@@ -109,4 +181,41 @@ public class AnswerController {
             return ResponseEntity.badRequest().build();
         }
     }
-} 
\ No newline at end of file
+    
+    @GetMapping("/today/{familyCode}/status")
+    public ResponseEntity<Object> getTodayAnswerStatus(@PathVariable String familyCode) {
+        try {
+            Map<String, Object> status = familyDayStatsService.getTodayStatus(familyCode);
+            return ResponseEntity.ok(status);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+    
+    @GetMapping("/family/{familyCode}/timeline")
+    public ResponseEntity<Object> getFamilyTimeline(
+            @PathVariable String familyCode,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeCreatedAt,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal AuthenticatedUser principal) {
+        try {
+            checkFamilyAccess(principal, familyCode);
+            AnswerTimelineResponse timeline = answerService.getFamilyTimeline(familyCode, beforeCreatedAt, beforeId, size);
+            return ResponseEntity.ok(timeline);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+    
+    // 인증된 요청은 자기 가족의 답변만 조회 가능 (구성원 캐시로 확인하여 DB 조회 없음)
+    private void checkFamilyAccess(AuthenticatedUser principal, String familyCode) {
+        if (principal != null && !familyDirectory.isMember(principal.id(), familyCode)) {
+            throw new RuntimeException("같은 가족 구성원만 조회할 수 있습니다.");
+        }
+    }
+}
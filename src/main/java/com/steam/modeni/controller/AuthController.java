@@ -6,38 +6,55 @@ import com.steam.modeni.dto.JoinFamilyRequest;
 import com.steam.modeni.dto.LoginRequest;
 import com.steam.modeni.dto.SignupRequest;
 import com.steam.modeni.service.AuthService;
+import com.steam.modeni.service.PasswordHashingBusyException;
+import com.steam.modeni.service.PasswordHashingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @RestController
 @RequestMapping("/auth")
 @RequiredArgsConstructor
 public class AuthController {
     
     private final AuthService authService;
+    private final PasswordHashingService passwordHashingService;
     
+    // 비밀번호 해시가 끝나면 응답하는 비동기 처리 (요청 스레드는 바로 반환)
     @PostMapping("/signup")
-    public ResponseEntity<?> signup(@Valid @RequestBody SignupRequest request) {
+    public CompletableFuture<ResponseEntity<?>> signup(@Valid @RequestBody SignupRequest request) {
         try {
-            AuthResponse response = authService.signup(request);
-            return ResponseEntity.ok(response);
+            return authService.signup(request)
+                    .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                    .exceptionally(this::toErrorResponse);
         } catch (RuntimeException e) {
-            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+            return CompletableFuture.completedFuture(toErrorResponse(e));
         }
     }
     
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest request) {
+    public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody LoginRequest request) {
         try {
-            AuthResponse response = authService.login(request);
-            return ResponseEntity.ok(response);
+            return authService.login(request)
+                    .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                    .exceptionally(this::toErrorResponse);
         } catch (RuntimeException e) {
-            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+            return CompletableFuture.completedFuture(toErrorResponse(e));
         }
     }
     
+    @GetMapping("/password-hashing/status")
+    public ResponseEntity<Map<String, Object>> getPasswordHashingStatus() {
+        return ResponseEntity.ok(passwordHashingService.getStatus());
+    }
+    
     @GetMapping("/get-family-code/{userId}")
     public ResponseEntity<?> getFamilyCode(@PathVariable Long userId) {
         try {
@@ -58,6 +75,18 @@ public class AuthController {
         }
     }
     
+    // 해시 대기열 초과는 503 (바로 재시도하지 않도록 Retry-After 안내), 그 외는 400
+    private ResponseEntity<?> toErrorResponse(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null 
+                ? throwable.getCause() : throwable;
+        if (cause instanceof PasswordHashingBusyException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(new ErrorResponse(cause.getMessage()));
+        }
+        return ResponseEntity.badRequest().body(new ErrorResponse(cause.getMessage()));
+    }
+    
     // 에러 응답용 내부 클래스
     public static class ErrorResponse {
         private String message;
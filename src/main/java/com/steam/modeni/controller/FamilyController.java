@@ -0,0 +1,57 @@
+package com.steam.modeni.controller;
+
+import com.steam.modeni.config.AuthenticatedUser;
+import com.steam.modeni.dto.FamilyScheduleRequest;
+import com.steam.modeni.service.FamilyDirectory;
+import com.steam.modeni.service.FamilyService;
+import com.steam.modeni.service.QuestionRolloverScheduler;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/families")
+@RequiredArgsConstructor
+public class FamilyController {
+    
+    private final FamilyService familyService;
+    private final QuestionRolloverScheduler questionRolloverScheduler;
+    private final FamilyDirectory familyDirectory;
+    
+    @GetMapping("/{familyCode}/schedule")
+    public ResponseEntity<Object> getSchedule(@PathVariable String familyCode) {
+        return ResponseEntity.ok(familyService.getSchedule(familyCode));
+    }
+    
+    @PutMapping("/{familyCode}/schedule")
+    public ResponseEntity<Object> updateSchedule(@PathVariable String familyCode,
+                                                 @Valid @RequestBody FamilyScheduleRequest request,
+                                                 @AuthenticationPrincipal AuthenticatedUser principal) {
+        // 질문 교체 설정은 해당 가족 구성원만 변경 가능
+        if (principal == null || !familyDirectory.isMember(principal.id(), familyCode)) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "같은 가족 구성원만 변경할 수 있습니다.");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        }
+        try {
+            Map<String, Object> response = familyService.updateSchedule(
+                    familyCode, request.getTimeZone(), request.getRolloverTime());
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+    
+    @GetMapping("/rollover-status")
+    public ResponseEntity<Map<String, Object>> getRolloverStatus() {
+        return ResponseEntity.ok(questionRolloverScheduler.getStatus());
+    }
+}
@@ -86,6 +86,11 @@ public class QuestionController {
         }
     }
     
+    @GetMapping("/cache-stats")
+    public ResponseEntity<Map<String, Object>> getTodayQuestionCacheStats() {
+        return ResponseEntity.ok(dailyQuestionService.getCacheStats());
+    }
+    
     @GetMapping("/random/{familyId}")
     public ResponseEntity<Question> getRandomQuestion(@PathVariable Long familyId) {
         try {
@@ -1,9 +1,15 @@
 package com.steam.modeni.controller;
 
+import com.steam.modeni.config.AdminAccess;
+import com.steam.modeni.config.AuthenticatedUser;
 import com.steam.modeni.domain.entity.Reaction;
+import com.steam.modeni.domain.enums.ReactionType;
+import com.steam.modeni.dto.ReactionResponse;
+import com.steam.modeni.service.ReactionCountStore;
 import com.steam.modeni.service.ReactionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -15,10 +21,15 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ReactionController {
     
+    private static final int MAX_BATCH_ANSWER_IDS = 200;
+    
     private final ReactionService reactionService;
+    private final ReactionCountStore reactionCountStore;
+    private final AdminAccess adminAccess;
     
     @PostMapping
-    public ResponseEntity<Map<String, Object>> createReaction(@RequestBody Map<String, Object> request) {
+    public ResponseEntity<Map<String, Object>> createReaction(@RequestBody Map<String, Object> request,
+                                                              @AuthenticationPrincipal AuthenticatedUser principal) {
         try {
             // 다양한 필드명 형태를 지원
             Long answerId = null;
@@ -38,16 +49,27 @@ public class ReactionController {
                 userId = Long.valueOf(request.get("userId").toString());
             } else if (request.get("user_id") != null) {
                 userId = Long.valueOf(request.get("user_id").toString());
-            } else {
+            } else if (principal == null) {
                 throw new RuntimeException("userId 또는 user_id가 필요합니다.");
             }
             
+            // 인증된 요청은 토큰의 사용자로만 반응 가능
+            if (principal != null) {
+                if (userId != null && !userId.equals(principal.id())) {
+                    throw new RuntimeException("다른 사용자로 반응할 수 없습니다.");
+                }
+                userId = principal.id();
+            }
+            
             String reactionType = (String) request.get("reaction_type");
             if (reactionType == null || reactionType.trim().isEmpty()) {
                 reactionType = "LIKE"; // 기본값
             }
             
-            Map<String, Object> response = reactionService.createReaction(answerId, userId, reactionType);
+            // mode가 toggle이면 같은 반응을 다시 누를 때 취소
+            boolean toggle = "toggle".equalsIgnoreCase(String.valueOf(request.get("mode")));
+            
+            Map<String, Object> response = reactionService.createReaction(answerId, userId, reactionType, toggle);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             // 에러 메시지를 포함한 응답 반환
@@ -86,7 +108,7 @@ public class ReactionController {
     @GetMapping("/answer/{answerId}")
     public ResponseEntity<Object> getReactionsByAnswer(@PathVariable Long answerId) {
         try {
-            List<Reaction> reactions = reactionService.getReactionsByAnswer(answerId);
+            List<ReactionResponse> reactions = reactionService.getReactionsByAnswer(answerId);
             return ResponseEntity.ok(reactions);
         } catch (RuntimeException e) {
             // 에러 메시지를 포함한 응답 반환
@@ -95,4 +117,43 @@ public class ReactionController {
             return ResponseEntity.badRequest().body(errorResponse);
         }
     }
-}
\ No newline at end of file
+    
+    @GetMapping("/answers")
+    public ResponseEntity<Object> getReactionsByAnswers(@RequestParam List<Long> answerIds) {
+        try {
+            if (answerIds.size() > MAX_BATCH_ANSWER_IDS) {
+                throw new RuntimeException("한 번에 조회할 수 있는 답변은 최대 " + MAX_BATCH_ANSWER_IDS + "개입니다.");
+            }
+            Map<Long, List<ReactionResponse>> reactions = reactionService.getReactionsByAnswers(answerIds);
+            return ResponseEntity.ok(reactions);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+    
+    @GetMapping("/answer/{answerId}/counts")
+    public ResponseEntity<Map<ReactionType, Long>> getReactionCounts(@PathVariable Long answerId) {
+        return ResponseEntity.ok(reactionService.getReactionCounts(answerId));
+    }
+    
+    @GetMapping("/counts/status")
+    public ResponseEntity<Map<String, Object>> getReactionCountStatus() {
+        return ResponseEntity.ok(reactionCountStore.getStatus());
+    }
+    
+    @PostMapping("/counts/reconcile")
+    public ResponseEntity<Map<String, Object>> reconcileReactionCounts(@AuthenticationPrincipal AuthenticatedUser principal) {
+        if (!adminAccess.isAdmin(principal)) {
+            return adminAccess.forbidden();
+        }
+        try {
+            return ResponseEntity.ok(reactionCountStore.reconcile());
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package com.steam.modeni.controller;
 
+import com.steam.modeni.config.AdminAccess;
+import com.steam.modeni.config.AuthenticatedUser;
 import com.steam.modeni.domain.entity.UserDailyQuestion;
 import com.steam.modeni.dto.InitialQuestionResponse;
 import com.steam.modeni.dto.UserDailyQuestionResponse;
+import com.steam.modeni.service.DailyQuestionBatchService;
 import com.steam.modeni.service.QuestionInitService;
 import com.steam.modeni.service.UserDailyQuestionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -15,7 +19,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/user-daily-questions")
@@ -24,6 +27,8 @@ public class UserDailyQuestionController {
     
     private final UserDailyQuestionService userDailyQuestionService;
     private final QuestionInitService questionInitService;
+    private final DailyQuestionBatchService dailyQuestionBatchService;
+    private final AdminAccess adminAccess;
     
     /**
      * 사용자의 오늘 질문 조회
@@ -40,15 +45,16 @@ public class UserDailyQuestionController {
     }
     
     /**
-     * 사용자의 모든 질문 이력 조회
+     * 사용자의 질문 이력 조회 (after 날짜 이후부터 size개, 미지정 시 최대 크기, 다음 페이지는 마지막 날짜를 after로 전달)
      */
     @GetMapping("/history/{userId}")
-    public ResponseEntity<List<UserDailyQuestionResponse>> getQuestionHistoryForUser(@PathVariable Long userId) {
+    public ResponseEntity<List<UserDailyQuestionResponse>> getQuestionHistoryForUser(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate after,
+            @RequestParam(required = false) Integer size) {
         try {
-            List<UserDailyQuestion> history = userDailyQuestionService.getQuestionHistoryForUser(userId);
-            List<UserDailyQuestionResponse> responses = history.stream()
-                    .map(this::convertToResponse)
-                    .collect(Collectors.toList());
+            List<UserDailyQuestionResponse> responses = 
+                    userDailyQuestionService.getQuestionHistoryForUser(userId, after, size);
             return ResponseEntity.ok(responses);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().build();
@@ -59,12 +65,13 @@ public class UserDailyQuestionController {
      * 가족별 질문 이력 조회 (효율적 - 같은 가족은 동일한 질문을 받음)
      */
     @GetMapping("/history/family/{familyCode}")
-    public ResponseEntity<List<UserDailyQuestionResponse>> getQuestionHistoryForFamily(@PathVariable String familyCode) {
+    public ResponseEntity<List<UserDailyQuestionResponse>> getQuestionHistoryForFamily(
+            @PathVariable String familyCode,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate after,
+            @RequestParam(required = false) Integer size) {
         try {
-            List<UserDailyQuestion> history = userDailyQuestionService.getQuestionHistoryForFamily(familyCode);
-            List<UserDailyQuestionResponse> responses = history.stream()
-                    .map(this::convertToResponse)
-                    .collect(Collectors.toList());
+            List<UserDailyQuestionResponse> responses = 
+                    userDailyQuestionService.getQuestionHistoryForFamily(familyCode, after, size);
             return ResponseEntity.ok(responses);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().build();
@@ -80,11 +87,8 @@ public class UserDailyQuestionController {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         try {
-            List<UserDailyQuestion> history = userDailyQuestionService
+            List<UserDailyQuestionResponse> responses = userDailyQuestionService
                     .getQuestionHistoryForUserByDateRange(userId, startDate, endDate);
-            List<UserDailyQuestionResponse> responses = history.stream()
-                    .map(this::convertToResponse)
-                    .collect(Collectors.toList());
             return ResponseEntity.ok(responses);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().build();
@@ -100,11 +104,8 @@ public class UserDailyQuestionController {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         try {
-            List<UserDailyQuestion> history = userDailyQuestionService
+            List<UserDailyQuestionResponse> responses = userDailyQuestionService
                     .getQuestionHistoryForFamilyByDateRange(familyCode, startDate, endDate);
-            List<UserDailyQuestionResponse> responses = history.stream()
-                    .map(this::convertToResponse)
-                    .collect(Collectors.toList());
             return ResponseEntity.ok(responses);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().build();
@@ -149,6 +150,35 @@ public class UserDailyQuestionController {
         }
     }
     
+    /**
+     * 모든 가족의 일일 질문 사전 생성 배치 수동 실행 (날짜 미지정 시 기본 시간대의 오늘)
+     */
+    @PostMapping("/batch/run")
+    public ResponseEntity<Map<String, Object>> runDailyQuestionBatch(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @AuthenticationPrincipal AuthenticatedUser principal) {
+        if (!adminAccess.isAdmin(principal)) {
+            return adminAccess.forbidden();
+        }
+        try {
+            Map<String, Object> stats = dailyQuestionBatchService.run(
+                    date != null ? date : dailyQuestionBatchService.upcomingQuestionDate());
+            return ResponseEntity.ok(stats);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+    
+    /**
+     * 일일 질문 사전 생성 배치의 마지막 실행 결과 조회
+     */
+    @GetMapping("/batch/last-run")
+    public ResponseEntity<Map<String, Object>> getDailyQuestionBatchStats() {
+        return ResponseEntity.ok(dailyQuestionBatchService.getLastRunStats());
+    }
+    
     /**
      * 초기 질문 목록 조회 (id와 content 포함)
      */
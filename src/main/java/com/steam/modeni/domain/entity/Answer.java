@@ -6,12 +6,23 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "answers")
+@Table(name = "answers", uniqueConstraints = {
+        // 한 질문당 사용자별 답변 1개 (가족 구성원별 특정 질문 답변 조회 인덱스로도 사용)
+        @UniqueConstraint(name = "uk_answers_user_question", columnNames = {"user_id", "question_id"})
+}, indexes = {
+        // 가족 답변 타임라인 키셋 페이지 (family_code, created_at, id)
+        @Index(name = "idx_answers_family_timeline", columnList = "family_code, created_at, id"),
+        // 가족의 여러 질문 답변 일괄 조회 (family_code, question_id)
+        @Index(name = "idx_answers_family_question", columnList = "family_code, question_id"),
+        // 검색 색인 재시작 시 마지막 저장 이후 변경된 답변 조회
+        @Index(name = "idx_answers_updated_at", columnList = "updated_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,12 +42,19 @@ public class Answer {
     @JsonIgnore
     private User user;
     
+    @Column(name = "family_code")
+    private String familyCode; // 답변 작성 당시 가족 코드 (타임라인 조회용)
+    
     @Column(columnDefinition = "TEXT")
     private String content;
     
     @CreationTimestamp
     private LocalDateTime createdAt;
     
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
     @OneToMany(mappedBy = "answer", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnore
     private List<Reaction> reactions;
@@ -0,0 +1,43 @@
+package com.steam.modeni.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+@Entity
+@Table(name = "families")
+@Getter
+@Setter
+@NoArgsConstructor
+public class Family {
+    
+    @Id
+    @Column(name = "family_code")
+    private String familyCode;
+    
+    @Column(name = "time_zone", nullable = false)
+    private String timeZone; // 질문 교체 기준 시간대 (예: Asia/Seoul)
+    
+    @Column(name = "rollover_time", nullable = false)
+    private LocalTime rolloverTime; // 새 질문으로 바뀌는 현지 시각
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "anchor_user_id")
+    private Long anchorUserId; // 가장 먼저 가입한 구성원 (가족 질문 이력의 기준, 구성원이 없으면 null)
+    
+    @Column(name = "member_count", nullable = false)
+    private int memberCount;
+    
+    public Family(String familyCode, String timeZone, LocalTime rolloverTime) {
+        this.familyCode = familyCode;
+        this.timeZone = timeZone;
+        this.rolloverTime = rolloverTime;
+        this.createdAt = LocalDateTime.now();
+    }
+}
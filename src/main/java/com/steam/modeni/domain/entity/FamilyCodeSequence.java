@@ -0,0 +1,24 @@
+package com.steam.modeni.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 가족 코드 발급용 카운터 (인스턴스마다 블록 단위로 예약하여 사용)
+ */
+@Entity
+@Table(name = "family_code_sequences")
+@Getter
+@Setter
+@NoArgsConstructor
+public class FamilyCodeSequence {
+    
+    @Id
+    @Column(name = "name")
+    private String name;
+    
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue; // 다음에 예약될 블록의 시작 값
+}
@@ -0,0 +1,53 @@
+package com.steam.modeni.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 가족별 날짜별 질문 배정표 (family_code + question_date 가 기본키)
+ */
+@Entity
+@Table(name = "family_daily_questions")
+@Getter
+@Setter
+@NoArgsConstructor
+public class FamilyDailyQuestion implements Persistable<FamilyDailyQuestionId> {
+    
+    @EmbeddedId
+    private FamilyDailyQuestionId id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "question_id", nullable = false)
+    private Question question;
+    
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    // 키를 직접 지정하므로 저장 전 SELECT(merge)를 피하기 위해 신규 여부를 직접 관리
+    @Transient
+    private boolean isNew = true;
+    
+    public FamilyDailyQuestion(String familyCode, LocalDate questionDate, Question question) {
+        this.id = new FamilyDailyQuestionId(familyCode, questionDate);
+        this.question = question;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
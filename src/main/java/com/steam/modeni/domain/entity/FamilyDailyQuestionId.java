@@ -0,0 +1,25 @@
+package com.steam.modeni.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class FamilyDailyQuestionId implements Serializable {
+    
+    @Column(name = "family_code", nullable = false)
+    private String familyCode;
+    
+    @Column(name = "question_date", nullable = false)
+    private LocalDate questionDate;
+}
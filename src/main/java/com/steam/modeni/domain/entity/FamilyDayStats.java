@@ -0,0 +1,40 @@
+package com.steam.modeni.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가족별 하루 답변 현황 집계 (메모리 카운터를 주기적으로 저장)
+ */
+@Entity
+@Table(name = "family_day_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+public class FamilyDayStats {
+    
+    @EmbeddedId
+    private FamilyDailyQuestionId id; // (가족 코드, 질문 날짜)
+    
+    @Column(name = "question_id")
+    private Long questionId;
+    
+    @Column(name = "answered_count", nullable = false)
+    private int answeredCount;
+    
+    @Column(name = "answered_user_ids", length = 1000)
+    private String answeredUserIds; // 답변한 구성원 id (쉼표 구분, 답변 순)
+    
+    @Column(name = "first_answered_at")
+    private LocalDateTime firstAnsweredAt;
+    
+    @Column(name = "last_answered_at")
+    private LocalDateTime lastAnsweredAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,51 @@
+package com.steam.modeni.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일일 질문 사전 생성 배치의 청크별 완료 기록 (재실행 시 가족 구성이 같은 완료 청크는 건너뜀)
+ */
+@Entity
+@Table(name = "question_generation_checkpoints",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"question_date", "chunk_index"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class QuestionGenerationCheckpoint {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "question_date", nullable = false)
+    private LocalDate questionDate;
+    
+    @Column(name = "chunk_index", nullable = false)
+    private Integer chunkIndex;
+    
+    @Column(name = "family_count", nullable = false)
+    private Integer familyCount;
+    
+    @Column(name = "family_fingerprint", nullable = false)
+    private Long familyFingerprint; // 완료 당시 청크의 가족 코드 구성 (이후 가족이 추가되면 달라짐)
+    
+    @Column(name = "row_count", nullable = false)
+    private Integer rowCount; // 실제로 새로 저장된 행 수 (재처리 시 누적)
+    
+    @CreationTimestamp
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+    
+    public QuestionGenerationCheckpoint(LocalDate questionDate, Integer chunkIndex) {
+        this.questionDate = questionDate;
+        this.chunkIndex = chunkIndex;
+        this.rowCount = 0;
+    }
+}
@@ -7,11 +7,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reactions")
+@Table(name = "reactions", uniqueConstraints = {
+        // 답변당 사용자별 반응 1개 (다시 누르면 종류만 변경)
+        @UniqueConstraint(name = "uk_reactions_answer_user", columnNames = {"answer_id", "user_id"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -36,4 +40,8 @@ public class Reaction {
     
     @CreationTimestamp
     private LocalDateTime createdAt;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
 } 
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.steam.modeni.domain.entity;
+
+import com.steam.modeni.domain.enums.ReactionType;
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 답변별/반응 종류별 반응 수 집계 (메모리 카운터를 주기적으로 저장)
+ */
+@Entity
+@Table(name = "reaction_counts")
+@IdClass(ReactionCount.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReactionCount {
+    
+    @Id
+    @Column(name = "answer_id")
+    private Long answerId;
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reaction_type", length = 20)
+    private ReactionType reactionType;
+    
+    @Column(name = "reaction_count", nullable = false)
+    private long reactionCount;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long answerId;
+        private ReactionType reactionType;
+    }
+}
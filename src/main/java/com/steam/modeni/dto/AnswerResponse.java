@@ -1,10 +1,13 @@
 package com.steam.modeni.dto;
 
+import com.steam.modeni.domain.enums.ReactionType;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -15,6 +18,9 @@ public class AnswerResponse {
     private LocalDateTime createdAt;
     private UserInfo user;
     private Long questionId;
+    private long reactionCount; // 답변에 달린 반응 수
+    private Map<ReactionType, Long> reactionCounts; // 반응 종류별 개수
+    private List<ReactionResponse> reactions; // 반응 목록 (반응한 사용자 포함)
     
     @Getter
     @Setter
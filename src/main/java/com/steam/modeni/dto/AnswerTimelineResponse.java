@@ -0,0 +1,45 @@
+package com.steam.modeni.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class AnswerTimelineResponse {
+    private List<QuestionGroup> questions; // 최신순, 같은 질문의 연속된 답변은 한 그룹으로
+    private boolean hasNext;
+    private Cursor nextCursor; // 다음 페이지 요청 시 beforeCreatedAt, beforeId로 전달
+    
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    public static class QuestionGroup {
+        private Long questionId;
+        private String questionContent;
+        private List<TimelineAnswer> answers;
+    }
+    
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    public static class TimelineAnswer {
+        private Long id;
+        private String content;
+        private LocalDateTime createdAt;
+        private AnswerResponse.UserInfo user;
+        private long reactionCount;
+    }
+    
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    public static class Cursor {
+        private LocalDateTime createdAt;
+        private Long id;
+    }
+}
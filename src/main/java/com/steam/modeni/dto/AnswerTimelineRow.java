@@ -0,0 +1,22 @@
+package com.steam.modeni.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가족 답변 타임라인 조회용 프로젝션 (답변 + 작성자 + 질문을 한 행으로)
+ */
+@Getter
+@AllArgsConstructor
+public class AnswerTimelineRow {
+    private Long answerId;
+    private String content;
+    private LocalDateTime createdAt;
+    private Long authorId;
+    private String authorName;
+    private String authorUserId;
+    private Long questionId;
+    private String questionContent;
+}
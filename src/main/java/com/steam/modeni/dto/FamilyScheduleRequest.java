@@ -0,0 +1,16 @@
+package com.steam.modeni.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class FamilyScheduleRequest {
+    
+    @NotBlank(message = "시간대는 필수입니다")
+    private String timeZone; // 예: Asia/Seoul, America/Los_Angeles
+    
+    @NotBlank(message = "질문 교체 시각은 필수입니다")
+    private String rolloverTime; // HH:mm
+}
@@ -0,0 +1,31 @@
+package com.steam.modeni.dto;
+
+import com.steam.modeni.domain.enums.ReactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReactionResponse {
+    private Long id;
+    private Long answerId;
+    private ReactionType reactionType;
+    private LocalDateTime createdAt;
+    private AnswerResponse.UserInfo user; // 반응한 사용자
+    
+    // JPQL 생성자 프로젝션용 (반응한 사용자를 조인하여 한 번의 쿼리로 조회)
+    public ReactionResponse(Long id, Long answerId, ReactionType reactionType, LocalDateTime createdAt,
+                            Long userId, String userName, String userLoginId) {
+        this.id = id;
+        this.answerId = answerId;
+        this.reactionType = reactionType;
+        this.createdAt = createdAt;
+        this.user = new AnswerResponse.UserInfo(userId, userName, userLoginId);
+    }
+}
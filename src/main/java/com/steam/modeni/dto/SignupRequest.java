@@ -27,7 +27,6 @@ public class SignupRequest {
     @NotBlank(message = "지역은 필수입니다")
     private String region;
     
-    // 필수 필드 - 프론트에서 생성한 가족 코드
-    @NotNull(message = "가족 코드는 필수입니다")
+    // 선택 필드 - 참여할 가족 코드 (없으면 서버에서 새 가족 코드 발급)
     private String familyCode;
 }
\ No newline at end of file
@@ -23,6 +23,18 @@ public class UserDailyQuestionResponse {
     // 질문 정보
     private QuestionInfo question;
     
+    // JPQL 생성자 프로젝션용 (질문/사용자를 조인하여 한 번의 쿼리로 조회)
+    public UserDailyQuestionResponse(Long id, Integer dayNumber, LocalDate questionDate, LocalDateTime createdAt,
+                                     Long questionId, String questionContent, String familyCode,
+                                     LocalDateTime questionCreatedAt) {
+        this.id = id;
+        this.dayNumber = dayNumber;
+        this.questionContent = questionContent;
+        this.questionDate = questionDate;
+        this.createdAt = createdAt;
+        this.question = new QuestionInfo(questionId, questionContent, familyCode, questionCreatedAt); // 실제 가족 코드
+    }
+    
     @Getter
     @Setter
     @NoArgsConstructor
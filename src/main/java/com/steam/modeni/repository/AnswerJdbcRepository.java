@@ -0,0 +1,92 @@
+package com.steam.modeni.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 답변 단일 문장 저장용 JDBC 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnswerJdbcRepository {
+    
+    // 사용자/질문 확인과 가족 코드 복사를 INSERT 한 문장에서 처리
+    // (시스템 질문이거나 사용자 가족의 질문일 때만 행이 만들어지고, 중복 답변은 유니크 제약으로 거부)
+    private static final String INSERT_ANSWER_SQL =
+            "INSERT INTO answers (question_id, user_id, family_code, content, created_at, updated_at) " +
+            "SELECT q.id, u.id, u.family_code, ?, ?, ? " +
+            "FROM users u JOIN questions q ON q.id = ? " +
+            "WHERE u.id = ? AND (q.family_code = 'SYSTEM' OR q.family_code = u.family_code)";
+    
+    private static final String STREAM_FOR_INDEX_SQL =
+            "SELECT id, family_code, content FROM answers WHERE family_code IS NOT NULL ORDER BY id";
+    
+    private static final String STREAM_CHANGED_SINCE_SQL =
+            "SELECT id, family_code, content FROM answers WHERE family_code IS NOT NULL AND updated_at >= ? ORDER BY id";
+    
+    private static final String COUNT_AND_MAX_ID_SQL =
+            "SELECT COUNT(*), COALESCE(MAX(id), 0) FROM answers WHERE family_code IS NOT NULL";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * 답변 저장 후 생성된 id 반환 (조건에 맞지 않아 저장되지 않으면 null)
+     */
+    public Long insertAnswer(Long questionId, Long userId, String content, LocalDateTime createdAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int inserted = jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_ANSWER_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, content);
+            ps.setTimestamp(2, Timestamp.valueOf(createdAt));
+            ps.setTimestamp(3, Timestamp.valueOf(createdAt));
+            ps.setLong(4, questionId);
+            ps.setLong(5, userId);
+            return ps;
+        }, keyHolder);
+        
+        if (inserted == 0 || keyHolder.getKey() == null) {
+            return null;
+        }
+        return keyHolder.getKey().longValue();
+    }
+    
+    /**
+     * 검색 색인용으로 답변을 한 행씩 읽어 전달 (MySQL 스트리밍 결과셋, 전체를 메모리에 올리지 않음)
+     */
+    public void streamForIndex(IndexRowHandler handler) {
+        JdbcTemplate streamingTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streamingTemplate.setFetchSize(Integer.MIN_VALUE);
+        streamingTemplate.query(STREAM_FOR_INDEX_SQL, (RowCallbackHandler) rs ->
+                handler.handle(rs.getLong(1), rs.getString(2), rs.getString(3)));
+    }
+    
+    /**
+     * 지정 시각 이후 등록/수정된 답변을 한 행씩 읽어 전달
+     */
+    public void streamChangedSince(LocalDateTime since, IndexRowHandler handler) {
+        jdbcTemplate.query(STREAM_CHANGED_SINCE_SQL, (RowCallbackHandler) rs ->
+                handler.handle(rs.getLong(1), rs.getString(2), rs.getString(3)), Timestamp.valueOf(since));
+    }
+    
+    /**
+     * 검색 색인 대상 답변 수와 최대 id ([count, maxId])
+     */
+    public long[] countAndMaxId() {
+        return jdbcTemplate.queryForObject(COUNT_AND_MAX_ID_SQL, 
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+    }
+    
+    @FunctionalInterface
+    public interface IndexRowHandler {
+        void handle(long answerId, String familyCode, String content);
+    }
+}
@@ -3,9 +3,15 @@ package com.steam.modeni.repository;
 import com.steam.modeni.domain.entity.Answer;
 import com.steam.modeni.domain.entity.Question;
 import com.steam.modeni.domain.entity.User;
+import com.steam.modeni.dto.AnswerTimelineRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +21,45 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
     Optional<Answer> findByQuestionAndUser(Question question, User user);
     boolean existsByQuestionAndUser(Question question, User user);
     List<Answer> findByQuestionOrderByCreatedAtAsc(Question question);
+    List<Answer> findByFamilyCodeAndQuestionId(String familyCode, Long questionId);
+    
+    // 특정 가족 구성원들의 특정 질문 답변 조회 (작성자 함께 조회, 가족 규모에 비례하는 비용)
+    @Query("SELECT a FROM Answer a JOIN FETCH a.user u " +
+           "WHERE u.familyCode = :familyCode AND a.question.id = :questionId " +
+           "ORDER BY a.createdAt ASC, a.id ASC")
+    List<Answer> findByFamilyCodeAndQuestionIdWithUser(@Param("familyCode") String familyCode,
+                                                       @Param("questionId") Long questionId);
+    
+    // 가족의 여러 질문 답변을 한 번에 조회 (작성자 함께 조회, 답변 작성 당시 가족 기준)
+    @Query("SELECT a FROM Answer a JOIN FETCH a.user u " +
+           "WHERE a.familyCode = :familyCode AND a.question.id IN :questionIds " +
+           "ORDER BY a.createdAt ASC, a.id ASC")
+    List<Answer> findByFamilyCodeAndQuestionIdsWithUser(@Param("familyCode") String familyCode,
+                                                        @Param("questionIds") Collection<Long> questionIds);
+    
+    // 가족 답변을 id 목록으로 조회 (작성자 함께 조회, 최신순, 다른 가족 답변은 제외)
+    @Query("SELECT a FROM Answer a JOIN FETCH a.user " +
+           "WHERE a.familyCode = :familyCode AND a.id IN :ids ORDER BY a.id DESC")
+    List<Answer> findWithUserByFamilyCodeAndIdIn(@Param("familyCode") String familyCode,
+                                                 @Param("ids") Collection<Long> ids);
+    
+    // 가족 답변 타임라인 첫 페이지 (최신순, 작성자/질문 포함)
+    @Query("SELECT new com.steam.modeni.dto.AnswerTimelineRow(" +
+           "a.id, a.content, a.createdAt, u.id, u.name, u.userId, q.id, q.content) " +
+           "FROM Answer a JOIN a.user u JOIN a.question q " +
+           "WHERE a.familyCode = :familyCode " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AnswerTimelineRow> findTimelineFirstPage(@Param("familyCode") String familyCode, Pageable pageable);
+    
+    // 가족 답변 타임라인 다음 페이지 ((createdAt, id) 커서 이전 답변)
+    @Query("SELECT new com.steam.modeni.dto.AnswerTimelineRow(" +
+           "a.id, a.content, a.createdAt, u.id, u.name, u.userId, q.id, q.content) " +
+           "FROM Answer a JOIN a.user u JOIN a.question q " +
+           "WHERE a.familyCode = :familyCode " +
+           "AND (a.createdAt < :beforeCreatedAt OR (a.createdAt = :beforeCreatedAt AND a.id < :beforeId)) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AnswerTimelineRow> findTimelinePageBefore(@Param("familyCode") String familyCode,
+                                                   @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                                   @Param("beforeId") Long beforeId,
+                                                   Pageable pageable);
 }
\ No newline at end of file
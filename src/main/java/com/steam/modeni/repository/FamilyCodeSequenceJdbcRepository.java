@@ -0,0 +1,51 @@
+package com.steam.modeni.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * 가족 코드 카운터 블록 예약용 JDBC 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class FamilyCodeSequenceJdbcRepository {
+    
+    private static final String SEQUENCE_NAME = "family_code";
+    
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO family_code_sequences (name, next_value) VALUES (?, 1)";
+    
+    // 행 잠금 한 번으로 블록을 예약하고 증가된 값을 LAST_INSERT_ID로 같은 연결에서 읽음
+    private static final String RESERVE_SQL =
+            "UPDATE family_code_sequences SET next_value = LAST_INSERT_ID(next_value + ?) WHERE name = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * size개 값을 예약하고 블록의 시작 값 반환 ([start, start + size) 구간)
+     */
+    public long reserveBlock(int size) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_IGNORE_SQL)) {
+                insert.setString(1, SEQUENCE_NAME);
+                insert.executeUpdate();
+            }
+            try (PreparedStatement reserve = connection.prepareStatement(RESERVE_SQL)) {
+                reserve.setInt(1, size);
+                reserve.setString(2, SEQUENCE_NAME);
+                reserve.executeUpdate();
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT LAST_INSERT_ID()")) {
+                rs.next();
+                return rs.getLong(1) - size;
+            }
+        });
+    }
+}
@@ -0,0 +1,39 @@
+package com.steam.modeni.repository;
+
+import com.steam.modeni.domain.entity.FamilyDailyQuestion;
+import com.steam.modeni.domain.entity.FamilyDailyQuestionId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FamilyDailyQuestionRepository extends JpaRepository<FamilyDailyQuestion, FamilyDailyQuestionId> {
+    
+    // 기본키 조회 + 질문 fetch join (단일 쿼리)
+    @Query("SELECT f FROM FamilyDailyQuestion f JOIN FETCH f.question WHERE f.id = :id")
+    Optional<FamilyDailyQuestion> findWithQuestionById(@Param("id") FamilyDailyQuestionId id);
+    
+    // 특정 날짜의 여러 가족 배정 조회 + 질문 fetch join
+    @Query("SELECT f FROM FamilyDailyQuestion f JOIN FETCH f.question " +
+           "WHERE f.id.questionDate = :questionDate AND f.id.familyCode IN :familyCodes")
+    List<FamilyDailyQuestion> findWithQuestionByDateAndFamilyCodes(@Param("questionDate") LocalDate questionDate,
+                                                                   @Param("familyCodes") Collection<String> familyCodes);
+    
+    // 특정 가족의 특정 기간 배정 조회 (질문은 id만 사용)
+    @Query("SELECT f FROM FamilyDailyQuestion f " +
+           "WHERE f.id.familyCode = :familyCode AND f.id.questionDate BETWEEN :startDate AND :endDate")
+    List<FamilyDailyQuestion> findByFamilyCodeAndDateRange(@Param("familyCode") String familyCode,
+                                                           @Param("startDate") LocalDate startDate,
+                                                           @Param("endDate") LocalDate endDate);
+    
+    // 특정 기간에 이미 배정된 (가족, 날짜) 키 조회
+    @Query("SELECT f.id FROM FamilyDailyQuestion f WHERE f.id.questionDate BETWEEN :startDate AND :endDate")
+    List<FamilyDailyQuestionId> findIdsByDateRange(@Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,73 @@
+package com.steam.modeni.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * family_day_stats 일괄 저장/조회용 JDBC 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class FamilyDayStatsJdbcRepository {
+    
+    // 인스턴스마다 메모리 카운터가 다르므로 메모리 값을 쓰지 않고 answers에서 다시 집계해 덮어씀
+    // (조건 없는 집계라 답변이 모두 삭제돼도 0건 행이 하나 나옴, idx_answers_family_question 사용)
+    private static final String REFRESH_SQL =
+            "INSERT INTO family_day_stats (family_code, question_date, question_id, answered_count, " +
+            "answered_user_ids, first_answered_at, last_answered_at, updated_at) " +
+            "SELECT ?, ?, ?, COUNT(*), GROUP_CONCAT(a.user_id ORDER BY a.created_at, a.id SEPARATOR ','), " +
+            "MIN(a.created_at), MAX(a.created_at), ? " +
+            "FROM answers a WHERE a.family_code = ? AND a.question_id = ? " +
+            "ON DUPLICATE KEY UPDATE question_id = VALUES(question_id), answered_count = VALUES(answered_count), " +
+            "answered_user_ids = VALUES(answered_user_ids), first_answered_at = VALUES(first_answered_at), " +
+            "last_answered_at = VALUES(last_answered_at), updated_at = VALUES(updated_at)";
+    
+    private static final String FIND_SQL =
+            "SELECT question_id, answered_count, answered_user_ids, first_answered_at, last_answered_at " +
+            "FROM family_day_stats WHERE family_code = ? AND question_date = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * (가족 코드, 질문 날짜)별 현황을 answers 기준으로 다시 집계해 저장
+     */
+    public void batchRefresh(List<Key> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> args = new ArrayList<>(keys.size());
+        for (Key key : keys) {
+            args.add(new Object[]{key.familyCode(), key.questionDate(), key.questionId(), now,
+                    key.familyCode(), key.questionId()});
+        }
+        jdbcTemplate.batchUpdate(REFRESH_SQL, args);
+    }
+    
+    /**
+     * 저장된 현황 조회 (재시작 후 메모리 카운터 복원용)
+     */
+    public Optional<Row> find(String familyCode, LocalDate questionDate) {
+        List<Row> rows = jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> new Row(familyCode, questionDate,
+                rs.getLong("question_id"),
+                rs.getInt("answered_count"),
+                rs.getString("answered_user_ids"),
+                rs.getObject("first_answered_at", LocalDateTime.class),
+                rs.getObject("last_answered_at", LocalDateTime.class)), familyCode, questionDate);
+        return rows.stream().findFirst();
+    }
+    
+    public record Key(String familyCode, LocalDate questionDate, Long questionId) {
+    }
+    
+    public record Row(String familyCode, LocalDate questionDate, Long questionId, int answeredCount,
+                      String answeredUserIds, LocalDateTime firstAnsweredAt, LocalDateTime lastAnsweredAt) {
+    }
+}
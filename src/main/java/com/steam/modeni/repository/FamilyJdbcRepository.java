@@ -0,0 +1,97 @@
+package com.steam.modeni.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * families 구성원 수/기준 구성원 갱신용 JDBC 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class FamilyJdbcRepository {
+    
+    // 이미 있는 가족 코드는 건너뜀 (INSERT IGNORE와 달리 NULL/잘림 같은 데이터 오류는 그대로 실패)
+    private static final String SKIP_EXISTING_SUFFIX = " ON DUPLICATE KEY UPDATE families.family_code = families.family_code";
+    
+    // 처음 보는 가족 코드는 기본 시간대/교체 시각으로 생성
+    private static final String INSERT_SQL =
+            "INSERT INTO families (family_code, time_zone, rollover_time, created_at, member_count) " +
+            "VALUES (?, ?, ?, ?, 0)" + SKIP_EXISTING_SUFFIX;
+    
+    // 가족 코드 순서대로 행을 잠금 (구성원 변경끼리 같은 순서로 잠가 교착 상태 방지)
+    private static final String LOCK_SQL_PREFIX = "SELECT family_code FROM families WHERE family_code IN (";
+    private static final String LOCK_SQL_SUFFIX = ") ORDER BY family_code FOR UPDATE";
+    
+    // 사용자 테이블 기준으로 구성원 수와 가장 먼저 가입한 구성원을 다시 계산
+    // (같은 가족의 구성원 변경은 families 행 잠금으로 직렬화되므로 마지막 갱신이 최종 구성원을 반영)
+    private static final String REFRESH_MEMBERS_SQL_PREFIX =
+            "UPDATE families f SET " +
+            "f.member_count = (SELECT COUNT(*) FROM users u WHERE u.family_code = f.family_code), " +
+            "f.anchor_user_id = (SELECT u.id FROM users u WHERE u.family_code = f.family_code " +
+            "ORDER BY u.created_at, u.id LIMIT 1) " +
+            "WHERE f.family_code IN (";
+    
+    // 사용자만 있고 families 행이 없는 가족 생성 (가족 생성일은 가장 이른 가입일)
+    private static final String BACKFILL_MISSING_SQL =
+            "INSERT INTO families (family_code, time_zone, rollover_time, created_at, member_count) " +
+            "SELECT u.family_code, ?, ?, MIN(u.created_at), 0 FROM users u " +
+            "WHERE u.family_code IS NOT NULL GROUP BY u.family_code" + SKIP_EXISTING_SUFFIX;
+    
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM families";
+    
+    private static final String REFRESH_ALL_MEMBERS_SQL =
+            "UPDATE families f SET " +
+            "f.member_count = (SELECT COUNT(*) FROM users u WHERE u.family_code = f.family_code), " +
+            "f.anchor_user_id = (SELECT u.id FROM users u WHERE u.family_code = f.family_code " +
+            "ORDER BY u.created_at, u.id LIMIT 1)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public void insertSkippingExisting(Collection<String> familyCodes, String timeZone, LocalTime rolloverTime, 
+                             LocalDateTime createdAt) {
+        if (familyCodes.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(familyCodes.size());
+        for (String familyCode : familyCodes) {
+            args.add(new Object[]{familyCode, timeZone, rolloverTime, createdAt});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+    
+    public void lockForUpdate(Collection<String> familyCodes) {
+        if (familyCodes.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(",", Collections.nCopies(familyCodes.size(), "?"));
+        jdbcTemplate.queryForList(LOCK_SQL_PREFIX + placeholders + LOCK_SQL_SUFFIX, String.class, familyCodes.toArray());
+    }
+    
+    public void refreshMembers(Collection<String> familyCodes) {
+        if (familyCodes.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(",", Collections.nCopies(familyCodes.size(), "?"));
+        jdbcTemplate.update(REFRESH_MEMBERS_SQL_PREFIX + placeholders + ")", familyCodes.toArray());
+    }
+    
+    /**
+     * 기존 사용자 데이터로 families 전체를 채움 (생성된 가족 수 반환)
+     * 영향 행 수는 기존 행도 셀 수 있으므로 전후 행 수 차이로 계산
+     */
+    public int backfill(String timeZone, LocalTime rolloverTime) {
+        Integer before = jdbcTemplate.queryForObject(COUNT_SQL, Integer.class);
+        jdbcTemplate.update(BACKFILL_MISSING_SQL, timeZone, rolloverTime);
+        Integer after = jdbcTemplate.queryForObject(COUNT_SQL, Integer.class);
+        jdbcTemplate.update(REFRESH_ALL_MEMBERS_SQL);
+        return (after != null ? after : 0) - (before != null ? before : 0);
+    }
+}
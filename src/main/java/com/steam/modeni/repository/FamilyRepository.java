@@ -0,0 +1,15 @@
+package com.steam.modeni.repository;
+
+import com.steam.modeni.domain.entity.Family;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalTime;
+import java.util.List;
+
+@Repository
+public interface FamilyRepository extends JpaRepository<Family, String> {
+    
+    // 기본 시간대/교체 시각과 다른 설정을 가진 가족 조회
+    List<Family> findByTimeZoneNotOrRolloverTimeNot(String timeZone, LocalTime rolloverTime);
+}
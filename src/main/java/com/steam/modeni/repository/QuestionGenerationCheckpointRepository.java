@@ -0,0 +1,21 @@
+package com.steam.modeni.repository;
+
+import com.steam.modeni.domain.entity.QuestionGenerationCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface QuestionGenerationCheckpointRepository extends JpaRepository<QuestionGenerationCheckpoint, Long> {
+    
+    // 특정 날짜에 이미 완료된 청크 기록 조회
+    @Query("SELECT c FROM QuestionGenerationCheckpoint c WHERE c.questionDate = :questionDate")
+    List<QuestionGenerationCheckpoint> findByQuestionDate(@Param("questionDate") LocalDate questionDate);
+    
+    Optional<QuestionGenerationCheckpoint> findByQuestionDateAndChunkIndex(LocalDate questionDate, Integer chunkIndex);
+}
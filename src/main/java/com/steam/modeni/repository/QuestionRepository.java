@@ -12,6 +12,10 @@ import java.util.List;
 public interface QuestionRepository extends JpaRepository<Question, Long> {
     List<Question> findByFamilyCode(String familyCode);
     List<Question> findByFamilyCodeOrFamilyCode(String familyCode1, String familyCode2);
+    long countByFamilyCode(String familyCode);
+    
+    @Query("SELECT MAX(q.id) FROM Question q WHERE q.familyCode = :familyCode")
+    Long findMaxIdByFamilyCode(@Param("familyCode") String familyCode);
     
     @Query("SELECT DISTINCT q FROM Question q JOIN Answer a ON q.id = a.question.id JOIN User u ON a.user.id = u.id WHERE u.familyCode = :familyCode")
     List<Question> findQuestionsWithAnswersByFamilyCode(@Param("familyCode") String familyCode);
@@ -0,0 +1,107 @@
+package com.steam.modeni.repository;
+
+import com.steam.modeni.domain.enums.ReactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * reaction_counts 일괄 저장/조회 및 reactions 재집계용 JDBC 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactionCountJdbcRepository {
+    
+    // 인스턴스마다 자기 변경분(증감)만 더하므로 여러 인스턴스가 함께 저장해도 서로 덮어쓰지 않음
+    private static final String ADD_DELTA_SQL =
+            "INSERT INTO reaction_counts (answer_id, reaction_type, reaction_count, updated_at) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE reaction_count = GREATEST(0, reaction_count + ?), updated_at = VALUES(updated_at)";
+    
+    // 대조 결과는 읽어 둔 값이 그대로일 때만 덮어씀 (그 사이 다른 인스턴스가 더한 변경분은 유지)
+    private static final String CORRECT_SQL =
+            "INSERT INTO reaction_counts (answer_id, reaction_type, reaction_count, updated_at) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE reaction_count = IF(reaction_count = ?, VALUES(reaction_count), reaction_count), " +
+            "updated_at = VALUES(updated_at)";
+    
+    private static final String COUNTS_IN_RANGE_SQL =
+            "SELECT answer_id, reaction_type, reaction_count FROM reaction_counts WHERE answer_id BETWEEN ? AND ?";
+    
+    private static final String REACTIONS_IN_RANGE_SQL =
+            "SELECT answer_id, reaction_type, COUNT(*) FROM reactions WHERE answer_id BETWEEN ? AND ? " +
+            "GROUP BY answer_id, reaction_type";
+    
+    private static final RowMapper<Row> ROW_MAPPER = (rs, rowNum) ->
+            new Row(rs.getLong(1), ReactionType.valueOf(rs.getString(2)), rs.getLong(3));
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * 변경분 더하기 (row.count = 증감, 행이 없으면 0 미만은 0으로 생성)
+     */
+    public void batchAddDeltas(List<Row> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        for (Row delta : deltas) {
+            args.add(new Object[]{delta.answerId(), delta.reactionType().name(), Math.max(0L, delta.count()), now,
+                    delta.count()});
+        }
+        jdbcTemplate.batchUpdate(ADD_DELTA_SQL, args);
+    }
+    
+    /**
+     * 대조 결과 저장 (저장된 값이 expectedCount일 때만 count로 바꿈, 행이 없으면 expectedCount = 0)
+     */
+    public void batchCorrect(List<Correction> corrections) {
+        if (corrections.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> args = new ArrayList<>(corrections.size());
+        for (Correction correction : corrections) {
+            args.add(new Object[]{correction.answerId(), correction.reactionType().name(), correction.count(), now,
+                    correction.expectedCount()});
+        }
+        jdbcTemplate.batchUpdate(CORRECT_SQL, args);
+    }
+    
+    public List<Row> findByAnswerIds(Collection<Long> answerIds) {
+        if (answerIds.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(answerIds.size(), "?"));
+        return jdbcTemplate.query(
+                "SELECT answer_id, reaction_type, reaction_count FROM reaction_counts WHERE answer_id IN (" + placeholders + ")",
+                ROW_MAPPER, answerIds.toArray());
+    }
+    
+    // 저장된 집계 (answer_id 범위)
+    public List<Row> findInRange(long fromAnswerId, long toAnswerId) {
+        return jdbcTemplate.query(COUNTS_IN_RANGE_SQL, ROW_MAPPER, fromAnswerId, toAnswerId);
+    }
+    
+    // reactions 원본 재집계 (answer_id 범위)
+    public List<Row> countReactionsInRange(long fromAnswerId, long toAnswerId) {
+        return jdbcTemplate.query(REACTIONS_IN_RANGE_SQL, ROW_MAPPER, fromAnswerId, toAnswerId);
+    }
+    
+    public long findMaxAnswerId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM answers", Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+    
+    public record Row(Long answerId, ReactionType reactionType, long count) {
+    }
+    
+    public record Correction(Long answerId, ReactionType reactionType, long expectedCount, long count) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.steam.modeni.repository;
+
+import com.steam.modeni.domain.enums.ReactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 반응 단일 문장 저장/토글용 JDBC 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactionJdbcRepository {
+    
+    // 같은 가족의 다른 구성원 답변일 때만 행이 선택되며, 이미 반응했으면 종류만 변경
+    // (updated_at을 항상 바꾸므로 영향 행 수 1 = 새 반응, 2 = 기존 반응 갱신, 0 = 조건 불일치)
+    private static final String UPSERT_SQL =
+            "INSERT INTO reactions (answer_id, user_id, reaction_type, created_at, updated_at) " +
+            "SELECT a.id, u.id, ?, ?, ? " +
+            "FROM answers a JOIN users author ON author.id = a.user_id JOIN users u ON u.id = ? " +
+            "WHERE a.id = ? AND author.id <> u.id AND author.family_code = u.family_code " +
+            "ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id), " +
+            "reaction_type = VALUES(reaction_type), updated_at = VALUES(updated_at)";
+    
+    private static final String LOCK_REACTION_TYPE_SQL =
+            "SELECT reaction_type FROM reactions WHERE answer_id = ? AND user_id = ? FOR UPDATE";
+    
+    private static final String DELETE_SAME_TYPE_SQL =
+            "DELETE FROM reactions WHERE answer_id = ? AND user_id = ? AND reaction_type = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * 반응 등록 또는 종류 변경
+     */
+    public UpsertResult upsert(Long answerId, Long userId, ReactionType reactionType) {
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int affected = jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, reactionType.name());
+            ps.setTimestamp(2, Timestamp.valueOf(now));
+            ps.setTimestamp(3, Timestamp.valueOf(now));
+            ps.setLong(4, userId);
+            ps.setLong(5, answerId);
+            return ps;
+        }, keyHolder);
+        
+        if (affected == 0) {
+            return new UpsertResult(UpsertStatus.REJECTED, null, now);
+        }
+        // 갱신 시 드라이버가 키를 여러 개 돌려줄 수 있으므로 첫 번째 키만 사용 (LAST_INSERT_ID(id) = 기존 행 id)
+        Long reactionId = keyHolder.getKeyList().stream()
+                .flatMap(keys -> keys.values().stream())
+                .findFirst()
+                .map(key -> ((Number) key).longValue())
+                .orElse(null);
+        return new UpsertResult(affected == 1 ? UpsertStatus.CREATED : UpsertStatus.UPDATED, reactionId, now);
+    }
+    
+    /**
+     * 기존 반응 종류를 잠그고 조회 (트랜잭션 안에서 호출, 없으면 empty)
+     */
+    public Optional<ReactionType> lockReactionType(Long answerId, Long userId) {
+        return jdbcTemplate.queryForList(LOCK_REACTION_TYPE_SQL, String.class, answerId, userId).stream()
+                .findFirst()
+                .map(ReactionType::valueOf);
+    }
+    
+    /**
+     * 같은 종류의 기존 반응 삭제 (삭제되었으면 true)
+     */
+    public boolean deleteIfSameType(Long answerId, Long userId, ReactionType reactionType) {
+        return jdbcTemplate.update(DELETE_SAME_TYPE_SQL, answerId, userId, reactionType.name()) > 0;
+    }
+    
+    public enum UpsertStatus {
+        CREATED, UPDATED, REJECTED
+    }
+    
+    public record UpsertResult(UpsertStatus status, Long reactionId, LocalDateTime timestamp) {
+    }
+}
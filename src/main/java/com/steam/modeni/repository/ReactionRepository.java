@@ -3,9 +3,13 @@ package com.steam.modeni.repository;
 import com.steam.modeni.domain.entity.Answer;
 import com.steam.modeni.domain.entity.Reaction;
 import com.steam.modeni.domain.entity.User;
+import com.steam.modeni.dto.ReactionResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +18,12 @@ public interface ReactionRepository extends JpaRepository<Reaction, Long> {
     List<Reaction> findByAnswerId(Long answerId);
     Optional<Reaction> findByAnswerAndUser(Answer answer, User user);
     List<Reaction> findByAnswerOrderByCreatedAtAsc(Answer answer);
+    
+    // 여러 답변의 반응을 반응한 사용자 정보와 함께 한 번에 조회 (답변별 등록순)
+    @Query("SELECT new com.steam.modeni.dto.ReactionResponse(" +
+           "r.id, r.answer.id, r.reactionType, r.createdAt, u.id, u.name, u.userId) " +
+           "FROM Reaction r JOIN r.user u " +
+           "WHERE r.answer.id IN :answerIds " +
+           "ORDER BY r.createdAt ASC, r.id ASC")
+    List<ReactionResponse> findResponsesByAnswerIds(@Param("answerIds") Collection<Long> answerIds);
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.steam.modeni.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * user_daily_questions 대량 저장용 JDBC 배치 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserDailyQuestionJdbcRepository {
+    
+    private static final String INSERT_PREFIX =
+            "INSERT INTO user_daily_questions (user_id, question_id, question_date, day_number, created_at) VALUES ";
+    
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?)";
+    
+    // (user_id, question_date) 유니크 제약에 걸리는 행은 건너뜀 (동시 생성 시에도 안전)
+    // INSERT IGNORE와 달리 외래 키/NULL/잘림 같은 데이터 오류는 그대로 실패
+    private static final String SKIP_EXISTING_SUFFIX = " ON DUPLICATE KEY UPDATE id = id";
+    
+    private static final int ROWS_PER_STATEMENT = 1000;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * 여러 행 INSERT 문장으로 저장하고 실제로 새로 저장된 행 수 반환
+     * 영향 행 수는 드라이버 설정(CLIENT_FOUND_ROWS)에 따라 기존 행도 1로 세므로,
+     * 이번에 넣은 created_at 값을 가진 행만 새로 저장된 것으로 셈
+     */
+    public int batchInsertSkippingExisting(List<NewRow> rows) {
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = 0;
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            List<NewRow> part = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+            String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(part.size(), ROW_PLACEHOLDERS))
+                    + SKIP_EXISTING_SUFFIX;
+            List<Object> args = new ArrayList<>(part.size() * 5);
+            for (NewRow row : part) {
+                Collections.addAll(args, row.userId(), row.questionId(), row.questionDate(), row.dayNumber(), now);
+            }
+            jdbcTemplate.update(sql, args.toArray());
+            inserted += countCreatedAt(part, now);
+        }
+        return inserted;
+    }
+    
+    private int countCreatedAt(List<NewRow> rows, LocalDateTime createdAt) {
+        Set<Long> userIds = new HashSet<>();
+        rows.forEach(row -> userIds.add(row.userId()));
+        List<Object> args = new ArrayList<>(userIds);
+        args.add(createdAt);
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_daily_questions WHERE user_id IN (" +
+                String.join(",", Collections.nCopies(userIds.size(), "?")) + ") AND created_at = ?",
+                Integer.class, args.toArray());
+        return count != null ? count : 0;
+    }
+    
+    public record NewRow(Long userId, Long questionId, LocalDate questionDate, int dayNumber) {
+    }
+}
@@ -2,6 +2,8 @@ package com.steam.modeni.repository;
 
 import com.steam.modeni.domain.entity.User;
 import com.steam.modeni.domain.entity.UserDailyQuestion;
+import com.steam.modeni.dto.UserDailyQuestionResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -34,6 +36,33 @@ public interface UserDailyQuestionRepository extends JpaRepository<UserDailyQues
                                                    @Param("startDate") LocalDate startDate, 
                                                    @Param("endDate") LocalDate endDate);
     
+    // 특정 사용자의 특정 기간에 이미 생성된 질문 날짜 조회
+    @Query("SELECT udq.questionDate FROM UserDailyQuestion udq WHERE udq.user.id = :userId " +
+           "AND udq.questionDate BETWEEN :startDate AND :endDate")
+    List<LocalDate> findQuestionDatesByUserIdAndDateRange(@Param("userId") Long userId,
+                                                         @Param("startDate") LocalDate startDate,
+                                                         @Param("endDate") LocalDate endDate);
+    
+    // 특정 사용자의 질문 이력을 응답 DTO로 조회 (질문/사용자 조인, 날짜 키셋 페이지)
+    @Query("SELECT new com.steam.modeni.dto.UserDailyQuestionResponse(" +
+           "udq.id, udq.dayNumber, udq.questionDate, udq.createdAt, q.id, q.content, u.familyCode, q.createdAt) " +
+           "FROM UserDailyQuestion udq JOIN udq.question q JOIN udq.user u " +
+           "WHERE u.id = :userId AND (:afterDate IS NULL OR udq.questionDate > :afterDate) " +
+           "ORDER BY udq.questionDate ASC")
+    List<UserDailyQuestionResponse> findResponsesByUserIdAfter(@Param("userId") Long userId,
+                                                               @Param("afterDate") LocalDate afterDate,
+                                                               Pageable pageable);
+    
+    // 특정 사용자의 특정 기간 질문 이력을 응답 DTO로 조회
+    @Query("SELECT new com.steam.modeni.dto.UserDailyQuestionResponse(" +
+           "udq.id, udq.dayNumber, udq.questionDate, udq.createdAt, q.id, q.content, u.familyCode, q.createdAt) " +
+           "FROM UserDailyQuestion udq JOIN udq.question q JOIN udq.user u " +
+           "WHERE u.id = :userId AND udq.questionDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY udq.questionDate ASC")
+    List<UserDailyQuestionResponse> findResponsesByUserIdAndDateRange(@Param("userId") Long userId,
+                                                                      @Param("startDate") LocalDate startDate,
+                                                                      @Param("endDate") LocalDate endDate);
+    
     // 특정 날짜에 질문을 받은 모든 사용자 조회
     List<UserDailyQuestion> findByQuestionDate(LocalDate questionDate);
 }
@@ -0,0 +1,111 @@
+package com.steam.modeni.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 저장/대량 등록용 JDBC 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcRepository {
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO users (user_id, password, name, role, region, age, family_code, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    // user_id가 이미 있는 행은 건너뜀 (INSERT IGNORE와 달리 잘림/NULL 같은 데이터 오류는 그대로 실패)
+    private static final String SKIP_EXISTING_SUFFIX = " ON DUPLICATE KEY UPDATE id = id";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * 사용자 한 명 저장 후 생성된 id 반환 (user_id 중복이면 DuplicateKeyException)
+     */
+    public Long insert(NewUser user, LocalDateTime createdAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            Object[] values = valuesOf(user, createdAt);
+            for (int i = 0; i < values.length; i++) {
+                ps.setObject(i + 1, values[i]);
+            }
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+    
+    /**
+     * 사용자 일괄 저장 (여러 행 INSERT 한 문장) 후 실제로 새로 저장된 사용자만 반환
+     * 영향 행 수는 드라이버 설정(CLIENT_FOUND_ROWS)에 따라 기존 행도 1로 세므로,
+     * 저장된 비밀번호 해시(행마다 다른 salt)가 보낸 값과 같은 행만 새로 저장된 것으로 판단
+     */
+    public List<NewUser> insertSkippingExisting(List<NewUser> users, LocalDateTime createdAt) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        String sql = "INSERT INTO users (user_id, password, name, role, region, age, family_code, created_at) VALUES " +
+                String.join(", ", Collections.nCopies(users.size(), ROW_PLACEHOLDERS)) + SKIP_EXISTING_SUFFIX;
+        List<Object> args = new ArrayList<>(users.size() * 8);
+        for (NewUser user : users) {
+            Collections.addAll(args, valuesOf(user, createdAt));
+        }
+        jdbcTemplate.update(sql, args.toArray());
+        
+        Map<String, String> storedPasswords = findPasswordsByUserIds(
+                users.stream().map(NewUser::userId).collect(Collectors.toList()));
+        return users.stream()
+                .filter(user -> user.encodedPassword().equals(storedPasswords.get(user.userId())))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 이미 존재하는 사용자ID 조회 (해시 계산 전에 걸러내기 위함)
+     */
+    public Set<String> findExistingUserIds(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT user_id FROM users WHERE user_id IN (" + placeholders + ")",
+                String.class, userIds.toArray()));
+    }
+    
+    private Map<String, String> findPasswordsByUserIds(Collection<String> userIds) {
+        String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        Map<String, String> passwords = new HashMap<>();
+        jdbcTemplate.query("SELECT user_id, password FROM users WHERE user_id IN (" + placeholders + ")",
+                (RowCallbackHandler) rs -> passwords.put(rs.getString(1), rs.getString(2)), userIds.toArray());
+        return passwords;
+    }
+    
+    private static Object[] valuesOf(NewUser user, LocalDateTime createdAt) {
+        return new Object[]{user.userId(), user.encodedPassword(), user.name(), user.role(),
+                user.region(), user.age(), user.familyCode(), Timestamp.valueOf(createdAt)};
+    }
+    
+    public record NewUser(String userId, String encodedPassword, String name, String role,
+                          String region, String age, String familyCode) {
+    }
+}
@@ -2,8 +2,12 @@ package com.steam.modeni.repository;
 
 import com.steam.modeni.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +16,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUserId(String userId);
     boolean existsByUserId(String userId);
     List<User> findByFamilyCode(String familyCode);
+    List<User> findByFamilyCodeIn(Collection<String> familyCodes);
+    
+    @Query("SELECT u.id FROM User u WHERE u.familyCode = :familyCode")
+    List<Long> findIdsByFamilyCode(@Param("familyCode") String familyCode);
+    
+    @Query("SELECT u.familyCode FROM User u WHERE u.id = :id")
+    Optional<String> findFamilyCodeById(@Param("id") Long id);
+    
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+    
+    @Query("SELECT DISTINCT u.familyCode FROM User u WHERE u.familyCode IS NOT NULL")
+    List<String> findDistinctFamilyCodes();
 }
@@ -0,0 +1,531 @@
+package com.steam.modeni.service;
+
+import com.steam.modeni.repository.AnswerJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 가족별 답변 전문 검색용 역색인 (한글에 맞춘 2-gram 토큰, 한 글자 검색을 위한 1-gram 포함)
+ * - 가족 코드별로 색인을 나누어 보관하고 답변 등록/수정/삭제 커밋 시 증분 반영
+ * - 가족 코드 해시 기준 세그먼트 파일로 디스크에 저장하며 저장 시각 기준 워터마크를 함께 기록
+ * - 재시작 시 디스크 색인에 워터마크 이후 등록/수정된 답변만 다시 반영하고, 답변 수/최대 id가 DB와 같으면 그대로 사용
+ * - 다르면(저장 이후 삭제 등) answers를 스트리밍으로 읽어 다시 생성
+ * 색인 결과는 후보일 뿐이므로 실제 내용 포함 여부는 호출하는 쪽에서 확인
+ */
+@Component
+@RequiredArgsConstructor
+public class AnswerSearchIndex {
+    
+    private static final int SEGMENT_FORMAT_VERSION = 2;
+    private static final String MANIFEST_FILE = "manifest.idx";
+    
+    // 저장 시작 시각에서 이만큼 뺀 시각을 워터마크로 기록
+    // (updated_at은 커밋 전에 정해지므로 저장 시점에 아직 커밋되지 않았던 변경도 재시작 시 다시 반영되도록)
+    private static final Duration WATERMARK_MARGIN = Duration.ofMinutes(5);
+    
+    private final AnswerJdbcRepository answerJdbcRepository;
+    
+    @Value("${search.index.dir:./data/answer-index}")
+    private String indexDir;
+    
+    @Value("${search.index.segment-count:16}")
+    private int segmentCount;
+    
+    private volatile Map<String, FamilyIndex> partitions = new ConcurrentHashMap<>();
+    private final Set<Integer> dirtySegments = ConcurrentHashMap.newKeySet();
+    
+    // 재생성/디스크 로딩 중에 들어온 변경 (교체 직전에 새 색인에 다시 적용)
+    private final Object swapLock = new Object();
+    private List<IndexOperation> pendingOperations;
+    
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private volatile boolean ready = false;
+    private volatile Map<String, Object> lastLoadStats = Map.of();
+    
+    /**
+     * 시작 시 디스크 세그먼트를 불러오고, DB와 맞지 않으면 백그라운드에서 재생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread loader = new Thread(() -> {
+            try {
+                if (!loadFromDisk()) {
+                    rebuild();
+                }
+            } catch (Exception e) {
+                System.err.println("❌ 답변 검색 색인 준비 실패: " + e.getMessage());
+            }
+        }, "answer-search-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * 답변 등록/수정 반영 (커밋 후 적용)
+     */
+    public void onAnswerSaved(String familyCode, Long answerId, String content) {
+        if (familyCode == null) {
+            return;
+        }
+        Set<String> tokens = documentTokens(content);
+        AfterCommit.run(() -> apply(new IndexOperation(familyCode, answerId, tokens)));
+    }
+    
+    /**
+     * 답변 삭제 반영 (커밋 후 적용)
+     */
+    public void onAnswerDeleted(String familyCode, Long answerId) {
+        if (familyCode == null) {
+            return;
+        }
+        AfterCommit.run(() -> apply(new IndexOperation(familyCode, answerId, null)));
+    }
+    
+    /**
+     * 검색어의 모든 토큰을 포함하는 답변 id 전체 (최신순, 호출하는 쪽에서 나누어 확인)
+     */
+    public List<Long> searchCandidates(String familyCode, String query) {
+        if (!ready) {
+            throw new RuntimeException("검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        Set<String> tokens = queryTokens(query);
+        if (tokens.isEmpty()) {
+            throw new RuntimeException("검색어를 입력해주세요.");
+        }
+        FamilyIndex familyIndex = partitions.get(familyCode);
+        if (familyIndex == null) {
+            return List.of();
+        }
+        return familyIndex.search(tokens);
+    }
+    
+    /**
+     * answers 전체를 스트리밍으로 읽어 색인 재생성 (메모리에 답변 목록을 올리지 않음)
+     */
+    public Map<String, Object> rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new RuntimeException("검색 색인 재생성이 이미 진행 중입니다.");
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            synchronized (swapLock) {
+                pendingOperations = new ArrayList<>();
+            }
+            
+            LocalDateTime watermark = LocalDateTime.now().minus(WATERMARK_MARGIN);
+            Map<String, FamilyIndex> rebuilt = new ConcurrentHashMap<>();
+            long[] rowCount = {0};
+            answerJdbcRepository.streamForIndex((answerId, familyCode, content) -> {
+                if (familyCode != null) {
+                    rebuilt.computeIfAbsent(familyCode, code -> new FamilyIndex())
+                            .put(answerId, documentTokens(content));
+                    rowCount[0]++;
+                }
+            });
+            
+            swapIn(rebuilt);
+            for (int segment = 0; segment < segmentCount; segment++) {
+                dirtySegments.add(segment);
+            }
+            flush(watermark);
+            
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("source", "rebuild");
+            stats.put("answers", rowCount[0]);
+            stats.put("families", rebuilt.size());
+            stats.put("elapsedMs", System.currentTimeMillis() - startedAt);
+            lastLoadStats = stats;
+            System.out.println("🔎 답변 검색 색인이 재생성되었습니다. (답변 " + rowCount[0] + "개, "
+                             + (System.currentTimeMillis() - startedAt) + "ms)");
+            return stats;
+        } finally {
+            synchronized (swapLock) {
+                pendingOperations = null;
+            }
+            rebuilding.set(false);
+        }
+    }
+    
+    /**
+     * 변경된 세그먼트를 디스크에 저장 (임시 파일에 쓴 뒤 교체)
+     */
+    @Scheduled(fixedDelayString = "${search.index.flush-interval-ms:60000}")
+    public void flush() {
+        flush(LocalDateTime.now().minus(WATERMARK_MARGIN));
+    }
+    
+    // watermark 이전에 커밋된 변경은 모두 이번에 저장되는 세그먼트에 포함됨
+    private synchronized void flush(LocalDateTime watermark) {
+        if (!ready || dirtySegments.isEmpty()) {
+            return;
+        }
+        try {
+            Path dir = Paths.get(indexDir);
+            Files.createDirectories(dir);
+            
+            Map<Integer, List<Map.Entry<String, FamilyIndex>>> bySegment = new HashMap<>();
+            long docCount = 0;
+            long maxAnswerId = 0;
+            for (Map.Entry<String, FamilyIndex> entry : partitions.entrySet()) {
+                bySegment.computeIfAbsent(segmentOf(entry.getKey()), s -> new ArrayList<>()).add(entry);
+                docCount += entry.getValue().size();
+                maxAnswerId = Math.max(maxAnswerId, entry.getValue().maxAnswerId());
+            }
+            
+            for (Integer segment : new ArrayList<>(dirtySegments)) {
+                dirtySegments.remove(segment);
+                writeSegment(dir, segment, bySegment.getOrDefault(segment, List.of()));
+            }
+            writeManifest(dir, docCount, maxAnswerId, watermark);
+        } catch (IOException e) {
+            System.err.println("❌ 답변 검색 색인 저장 실패: " + e.getMessage());
+        }
+    }
+    
+    public Map<String, Object> getStatus() {
+        Map<String, Object> response = new HashMap<>(lastLoadStats);
+        response.put("ready", ready);
+        response.put("rebuilding", rebuilding.get());
+        response.put("families", partitions.size());
+        response.put("dirtySegments", dirtySegments.size());
+        return response;
+    }
+    
+    /**
+     * 답변 본문 토큰: 단어별 2-gram + 글자 단위 1-gram (한 글자 검색어도 찾을 수 있도록)
+     */
+    static Set<String> documentTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+    
+    /**
+     * 검색어 토큰: 단어별 2-gram (한 글자 단어는 그대로)
+     */
+    static Set<String> queryTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+    
+    /**
+     * 정규화된 단어 목록 (NFKC, 소문자, 글자/숫자 외 문자는 구분자로 처리)
+     */
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (word.length() > 0) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+    
+    private void apply(IndexOperation operation) {
+        Map<String, FamilyIndex> target;
+        synchronized (swapLock) {
+            if (pendingOperations != null) {
+                pendingOperations.add(operation);
+            }
+            target = partitions;
+        }
+        operation.applyTo(target);
+        dirtySegments.add(segmentOf(operation.familyCode()));
+    }
+    
+    private void swapIn(Map<String, FamilyIndex> fresh) {
+        synchronized (swapLock) {
+            for (IndexOperation operation : pendingOperations) {
+                operation.applyTo(fresh);
+            }
+            partitions = fresh;
+            pendingOperations = null;
+        }
+        ready = true;
+    }
+    
+    // 디스크 세그먼트 로딩 후 워터마크 이후 변경분 반영 (답변 수/최대 id가 DB와 다르면 false)
+    private boolean loadFromDisk() throws IOException {
+        Path dir = Paths.get(indexDir);
+        Path manifest = dir.resolve(MANIFEST_FILE);
+        if (!Files.exists(manifest)) {
+            return false;
+        }
+        long startedAt = System.currentTimeMillis();
+        synchronized (swapLock) {
+            pendingOperations = new ArrayList<>();
+        }
+        try {
+            long[] dbStats = answerJdbcRepository.countAndMaxId();
+            
+            LocalDateTime watermark;
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(manifest)))) {
+                if (in.readInt() != SEGMENT_FORMAT_VERSION || in.readInt() != segmentCount) {
+                    return false;
+                }
+                in.readLong(); // 저장 당시 답변 수
+                in.readLong(); // 저장 당시 최대 id
+                watermark = LocalDateTime.parse(in.readUTF());
+            }
+            
+            Map<String, FamilyIndex> loaded = new ConcurrentHashMap<>();
+            for (int segment = 0; segment < segmentCount; segment++) {
+                Path segmentFile = dir.resolve(segmentFileName(segment));
+                if (!Files.exists(segmentFile)) {
+                    return false;
+                }
+                readSegment(segmentFile, loaded);
+            }
+            
+            // 마지막 저장 이후 등록/수정된 답변은 DB 내용으로 다시 색인
+            long[] changedCount = {0};
+            answerJdbcRepository.streamChangedSince(watermark, (answerId, familyCode, content) -> {
+                new IndexOperation(familyCode, answerId, documentTokens(content)).applyTo(loaded);
+                changedCount[0]++;
+            });
+            
+            long docCount = 0;
+            long maxAnswerId = 0;
+            for (FamilyIndex familyIndex : loaded.values()) {
+                docCount += familyIndex.size();
+                maxAnswerId = Math.max(maxAnswerId, familyIndex.maxAnswerId());
+            }
+            if (docCount != dbStats[0] || maxAnswerId != dbStats[1]) {
+                System.out.println("🔎 답변 검색 색인이 DB와 달라 다시 생성합니다. (색인 " + docCount
+                                 + "개, DB " + dbStats[0] + "개)");
+                return false;
+            }
+            
+            swapIn(loaded);
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("source", "disk");
+            stats.put("answers", docCount);
+            stats.put("families", loaded.size());
+            stats.put("reindexedSinceWatermark", changedCount[0]);
+            stats.put("elapsedMs", System.currentTimeMillis() - startedAt);
+            lastLoadStats = stats;
+            System.out.println("🔎 답변 검색 색인을 디스크에서 불러왔습니다. (답변 " + docCount + "개, 변경분 "
+                             + changedCount[0] + "개 반영)");
+            return true;
+        } finally {
+            synchronized (swapLock) {
+                pendingOperations = null;
+            }
+        }
+    }
+    
+    private void writeSegment(Path dir, int segment, List<Map.Entry<String, FamilyIndex>> families) throws IOException {
+        Path target = dir.resolve(segmentFileName(segment));
+        Path temp = dir.resolve(segmentFileName(segment) + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(temp))))) {
+            out.writeInt(families.size());
+            for (Map.Entry<String, FamilyIndex> entry : families) {
+                out.writeUTF(entry.getKey());
+                entry.getValue().writeTo(out);
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    private void readSegment(Path segmentFile, Map<String, FamilyIndex> into) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(segmentFile))))) {
+            int familyCount = in.readInt();
+            for (int i = 0; i < familyCount; i++) {
+                String familyCode = in.readUTF();
+                FamilyIndex familyIndex = new FamilyIndex();
+                familyIndex.readFrom(in);
+                into.put(familyCode, familyIndex);
+            }
+        }
+    }
+    
+    private void writeManifest(Path dir, long docCount, long maxAnswerId, LocalDateTime watermark) throws IOException {
+        Path temp = dir.resolve(MANIFEST_FILE + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(SEGMENT_FORMAT_VERSION);
+            out.writeInt(segmentCount);
+            out.writeLong(docCount);
+            out.writeLong(maxAnswerId);
+            out.writeUTF(watermark.toString());
+        }
+        Files.move(temp, dir.resolve(MANIFEST_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    private int segmentOf(String familyCode) {
+        return Math.floorMod(familyCode.hashCode(), segmentCount);
+    }
+    
+    private static String segmentFileName(int segment) {
+        return String.format("segment-%03d.idx", segment);
+    }
+    
+    // tokens가 null이면 삭제
+    private record IndexOperation(String familyCode, Long answerId, Set<String> tokens) {
+        
+        void applyTo(Map<String, FamilyIndex> partitions) {
+            if (tokens == null) {
+                FamilyIndex familyIndex = partitions.get(familyCode);
+                if (familyIndex != null) {
+                    familyIndex.remove(answerId);
+                }
+                return;
+            }
+            partitions.computeIfAbsent(familyCode, code -> new FamilyIndex()).put(answerId, tokens);
+        }
+    }
+    
+    /**
+     * 한 가족의 역색인 (토큰 -> 답변 id, 답변 id -> 토큰)
+     */
+    private static final class FamilyIndex {
+        private final Map<String, Set<Long>> postings = new HashMap<>();
+        private final TreeMap<Long, String[]> documents = new TreeMap<>();
+        
+        synchronized void put(long answerId, Set<String> tokens) {
+            remove(answerId);
+            String[] documentTokens = tokens.toArray(new String[0]);
+            documents.put(answerId, documentTokens);
+            for (String token : documentTokens) {
+                postings.computeIfAbsent(token, t -> new HashSet<>()).add(answerId);
+            }
+        }
+        
+        synchronized void remove(long answerId) {
+            String[] documentTokens = documents.remove(answerId);
+            if (documentTokens == null) {
+                return;
+            }
+            for (String token : documentTokens) {
+                Set<Long> answerIds = postings.get(token);
+                if (answerIds != null) {
+                    answerIds.remove(answerId);
+                    if (answerIds.isEmpty()) {
+                        postings.remove(token);
+                    }
+                }
+            }
+        }
+        
+        // 가장 적은 답변을 가진 토큰부터 교집합
+        synchronized List<Long> search(Set<String> tokens) {
+            List<Set<Long>> postingLists = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                Set<Long> answerIds = postings.get(token);
+                if (answerIds == null) {
+                    return List.of();
+                }
+                postingLists.add(answerIds);
+            }
+            postingLists.sort(Comparator.comparingInt(Set::size));
+            
+            List<Long> matches = new ArrayList<>();
+            for (Long answerId : postingLists.get(0)) {
+                boolean matchesAll = true;
+                for (int i = 1; i < postingLists.size() && matchesAll; i++) {
+                    matchesAll = postingLists.get(i).contains(answerId);
+                }
+                if (matchesAll) {
+                    matches.add(answerId);
+                }
+            }
+            matches.sort(Comparator.reverseOrder());
+            return matches;
+        }
+        
+        synchronized int size() {
+            return documents.size();
+        }
+        
+        synchronized long maxAnswerId() {
+            return documents.isEmpty() ? 0 : documents.lastKey();
+        }
+        
+        synchronized void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(documents.size());
+            for (Map.Entry<Long, String[]> document : documents.entrySet()) {
+                out.writeLong(document.getKey());
+                out.writeInt(document.getValue().length);
+                for (String token : document.getValue()) {
+                    out.writeUTF(token);
+                }
+            }
+        }
+        
+        synchronized void readFrom(DataInputStream in) throws IOException {
+            int documentCount = in.readInt();
+            for (int i = 0; i < documentCount; i++) {
+                long answerId = in.readLong();
+                int tokenCount = in.readInt();
+                Set<String> tokens = new LinkedHashSet<>(tokenCount);
+                for (int j = 0; j < tokenCount; j++) {
+                    tokens.add(in.readUTF());
+                }
+                put(answerId, tokens);
+            }
+        }
+    }
+}
@@ -2,18 +2,30 @@ package com.steam.modeni.service;
 
 import com.steam.modeni.domain.entity.Answer;
 import com.steam.modeni.domain.entity.Question;
-import com.steam.modeni.domain.entity.User;
+import com.steam.modeni.domain.enums.ReactionType;
 import com.steam.modeni.dto.AnswerResponse;
+import com.steam.modeni.dto.AnswerTimelineResponse;
+import com.steam.modeni.dto.AnswerTimelineRow;
+import com.steam.modeni.dto.ReactionResponse;
+import com.steam.modeni.repository.AnswerJdbcRepository;
 import com.steam.modeni.repository.AnswerRepository;
 import com.steam.modeni.repository.QuestionRepository;
 import com.steam.modeni.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,57 +33,77 @@ import java.util.stream.Collectors;
 @Transactional
 public class AnswerService {
     
+    private static final int DEFAULT_TIMELINE_PAGE_SIZE = 20;
+    private static final int MAX_TIMELINE_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_QUESTION_IDS = 100;
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final int SEARCH_CANDIDATE_PAGE_SIZE = 100;
+    
     private final AnswerRepository answerRepository;
+    private final AnswerJdbcRepository answerJdbcRepository;
     private final QuestionRepository questionRepository;
+    private final ReactionCountStore reactionCountStore;
+    private final ReactionService reactionService;
     private final UserRepository userRepository;
     private final DailyQuestionService dailyQuestionService;
+    private final FamilyDayStatsService familyDayStatsService;
+    private final AnswerSearchIndex answerSearchIndex;
+    private final FamilyDirectory familyDirectory;
     
+    /**
+     * 답변 등록 (INSERT 한 문장, 중복 답변은 (user_id, question_id) 유니크 제약으로 거부)
+     */
     public Map<String, Object> createAnswer(Long questionId, Long userId, String content) {
-        Question question = questionRepository.findById(questionId)
-                .orElseThrow(() -> new RuntimeException("질문을 찾을 수 없습니다."));
-        
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
         // 요청 데이터 검증
         if (content == null || content.trim().isEmpty()) {
             throw new RuntimeException("답변 내용은 필수입니다.");
         }
         
-        // 사용자의 가족 코드 확인
-        String familyCode = user.getFamilyCode();
-        
-        // 질문이 시스템 질문이거나 사용자의 가족 질문인지 확인
-        if (question.getFamilyCode() != null && !question.getFamilyCode().equals(familyCode) && !question.getFamilyCode().equals(0L)) {
-            throw new RuntimeException("이 질문은 다른 가족의 질문입니다.");
-        }
-        
-        // 이미 답변했는지 확인
-        if (answerRepository.existsByQuestionAndUser(question, user)) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        Long answerId;
+        try {
+            answerId = answerJdbcRepository.insertAnswer(questionId, userId, content, createdAt);
+        } catch (DuplicateKeyException e) {
             throw new RuntimeException("이미 이 질문에 답변하셨습니다. 한 질문당 한 번만 답변 가능합니다.");
         }
         
-        Answer answer = new Answer();
-        answer.setQuestion(question);
-        answer.setUser(user);
-        answer.setContent(content);
+        if (answerId == null) {
+            throw rejectedAnswerError(questionId, userId);
+        }
         
-        Answer savedAnswer = answerRepository.save(answer);
+        // 가족 오늘 답변 현황/검색 색인 갱신 (커밋 후 반영)
+        // 가족 코드는 토큰 클레임이 아닌 사용자의 현재 가족 (INSERT가 복사한 값과 같으며 캐시에서 조회, 추가 쿼리 없음)
+        familyDirectory.familyOf(userId).ifPresent(familyCode -> {
+            familyDayStatsService.onAnswerCreated(familyCode, questionId, userId, createdAt);
+            answerSearchIndex.onAnswerSaved(familyCode, answerId, content);
+        });
         
         Map<String, Object> response = new HashMap<>();
-        response.put("id", savedAnswer.getId());
-        response.put("created_at", savedAnswer.getCreatedAt());
+        response.put("id", answerId);
+        response.put("created_at", createdAt);
         response.put("message", "답변이 성공적으로 등록되었습니다.");
         
         return response;
     }
     
+    // 답변이 저장되지 않은 경우에만 원인을 조회하여 기존과 같은 오류 메시지 반환
+    private RuntimeException rejectedAnswerError(Long questionId, Long userId) {
+        if (!questionRepository.existsById(questionId)) {
+            return new RuntimeException("질문을 찾을 수 없습니다.");
+        }
+        if (!userRepository.existsById(userId)) {
+            return new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+        return new RuntimeException("이 질문은 다른 가족의 질문입니다.");
+    }
+    
     @Transactional(readOnly = true)
     public AnswerResponse getAnswerById(Long id) {
         Answer answer = answerRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("답변을 찾을 수 없습니다."));
         
-        return convertToAnswerResponse(answer);
+        return convertToAnswerResponses(List.of(answer)).get(0);
     }
     
     public Map<String, Object> updateAnswer(Long id, String content) {
@@ -80,6 +112,7 @@ public class AnswerService {
         
         answer.setContent(content);
         answerRepository.save(answer);
+        answerSearchIndex.onAnswerSaved(answer.getFamilyCode(), answer.getId(), content);
         
         Map<String, Object> response = new HashMap<>();
         response.put("message", "답변이 성공적으로 수정되었습니다.");
@@ -91,6 +124,9 @@ public class AnswerService {
                 .orElseThrow(() -> new RuntimeException("답변을 찾을 수 없습니다."));
         
         answerRepository.delete(answer);
+        familyDayStatsService.onAnswerDeleted(
+                answer.getFamilyCode(), answer.getQuestion().getId(), answer.getUser().getId());
+        answerSearchIndex.onAnswerDeleted(answer.getFamilyCode(), answer.getId());
         
         Map<String, Object> response = new HashMap<>();
         response.put("message", "답변이 성공적으로 삭제되었습니다.");
@@ -103,9 +139,7 @@ public class AnswerService {
                 .orElseThrow(() -> new RuntimeException("질문을 찾을 수 없습니다."));
         
         List<Answer> answers = answerRepository.findByQuestionOrderByCreatedAtAsc(question);
-        return answers.stream()
-                .map(this::convertToAnswerResponse)
-                .collect(Collectors.toList());
+        return convertToAnswerResponses(answers);
     }
     
     @Transactional(readOnly = true)
@@ -115,15 +149,140 @@ public class AnswerService {
             throw new RuntimeException("오늘의 질문을 찾을 수 없습니다.");
         }
         
-        List<Answer> answers = answerRepository.findByQuestionOrderByCreatedAtAsc(todayQuestion);
-        // 같은 가족의 답변만 필터링
+        // 같은 가족의 답변만 DB에서 조회 (시스템 질문은 모든 가족이 공유하므로 전체 답변을 읽지 않음)
+        List<Answer> answers = answerRepository.findByFamilyCodeAndQuestionIdWithUser(familyCode, todayQuestion.getId());
+        return convertToAnswerResponses(answers);
+    }
+    
+    /**
+     * 여러 질문에 대한 가족 답변을 질문 id별로 조회 (답변+작성자 1회, 반응 수 집계 1회)
+     * 요청한 모든 질문 id가 키로 포함되며 답변이 없으면 빈 목록
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<AnswerResponse>> getAnswersByQuestions(List<Long> questionIds, String familyCode) {
+        if (questionIds == null || questionIds.isEmpty()) {
+            throw new RuntimeException("questionIds가 필요합니다.");
+        }
+        if (familyCode == null || familyCode.isBlank()) {
+            throw new RuntimeException("familyCode가 필요합니다.");
+        }
+        Set<Long> distinctIds = new LinkedHashSet<>(questionIds);
+        if (distinctIds.size() > MAX_BATCH_QUESTION_IDS) {
+            throw new RuntimeException("한 번에 조회할 수 있는 질문은 최대 " + MAX_BATCH_QUESTION_IDS + "개입니다.");
+        }
+        
+        List<Answer> answers = answerRepository.findByFamilyCodeAndQuestionIdsWithUser(familyCode, distinctIds);
+        
+        Map<Long, List<AnswerResponse>> response = new LinkedHashMap<>();
+        for (Long questionId : distinctIds) {
+            response.put(questionId, new ArrayList<>());
+        }
+        for (AnswerResponse answer : convertToAnswerResponses(answers)) {
+            response.get(answer.getQuestionId()).add(answer);
+        }
+        return response;
+    }
+    
+    /**
+     * 가족 답변 검색 (색인에서 후보를 찾은 뒤 실제 내용에 검색어가 모두 포함된 답변만 최신순으로 반환)
+     * 후보를 최신순으로 나누어 조회하며 확인된 답변이 size개가 되거나 후보가 끝날 때까지 계속
+     */
+    @Transactional(readOnly = true)
+    public List<AnswerResponse> searchAnswers(String familyCode, String query, Integer size) {
+        int limit = size == null ? DEFAULT_SEARCH_SIZE : Math.min(Math.max(size, 1), MAX_SEARCH_SIZE);
+        List<Long> candidateIds = answerSearchIndex.searchCandidates(familyCode, query);
+        
+        // 2-gram 교집합은 단어가 떨어져 있어도 걸리므로 정규화한 본문으로 다시 확인
+        List<String> queryWords = AnswerSearchIndex.words(query);
+        List<Answer> matched = new ArrayList<>();
+        for (int from = 0; from < candidateIds.size() && matched.size() < limit; from += SEARCH_CANDIDATE_PAGE_SIZE) {
+            List<Long> page = candidateIds.subList(from, Math.min(from + SEARCH_CANDIDATE_PAGE_SIZE, candidateIds.size()));
+            for (Answer answer : answerRepository.findWithUserByFamilyCodeAndIdIn(familyCode, page)) {
+                String normalizedContent = String.join(" ", AnswerSearchIndex.words(answer.getContent()));
+                if (queryWords.stream().allMatch(normalizedContent::contains)) {
+                    matched.add(answer);
+                    if (matched.size() == limit) {
+                        break;
+                    }
+                }
+            }
+        }
+        return convertToAnswerResponses(matched);
+    }
+    
+    /**
+     * 가족 답변 타임라인 (최신순, (createdAt, id) 키셋 페이지)
+     * 페이지당 한 번의 쿼리로 작성자/질문까지 조회하고 반응 수는 메모리 집계에서 채움
+     * 연속된 같은 질문의 답변은 한 그룹으로 묶음
+     */
+    @Transactional(readOnly = true)
+    public AnswerTimelineResponse getFamilyTimeline(String familyCode, LocalDateTime beforeCreatedAt, 
+                                                    Long beforeId, Integer size) {
+        if ((beforeCreatedAt == null) != (beforeId == null)) {
+            throw new RuntimeException("beforeCreatedAt과 beforeId는 함께 전달해야 합니다.");
+        }
+        int pageSize = size == null ? DEFAULT_TIMELINE_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_TIMELINE_PAGE_SIZE);
+        
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<AnswerTimelineRow> rows = beforeCreatedAt == null
+                ? answerRepository.findTimelineFirstPage(familyCode, pageable)
+                : answerRepository.findTimelinePageBefore(familyCode, beforeCreatedAt, beforeId, pageable);
+        
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+        
+        Map<Long, Map<ReactionType, Long>> reactionCounts = reactionCountStore.getCounts(
+                rows.stream().map(AnswerTimelineRow::getAnswerId).collect(Collectors.toList()));
+        
+        List<AnswerTimelineResponse.QuestionGroup> groups = new ArrayList<>();
+        AnswerTimelineResponse.QuestionGroup currentGroup = null;
+        for (AnswerTimelineRow row : rows) {
+            if (currentGroup == null || !currentGroup.getQuestionId().equals(row.getQuestionId())) {
+                currentGroup = new AnswerTimelineResponse.QuestionGroup(
+                        row.getQuestionId(), row.getQuestionContent(), new ArrayList<>());
+                groups.add(currentGroup);
+            }
+            currentGroup.getAnswers().add(new AnswerTimelineResponse.TimelineAnswer(
+                    row.getAnswerId(),
+                    row.getContent(),
+                    row.getCreatedAt(),
+                    new AnswerResponse.UserInfo(row.getAuthorId(), row.getAuthorName(), row.getAuthorUserId()),
+                    totalOf(reactionCounts.get(row.getAnswerId()))
+            ));
+        }
+        
+        AnswerTimelineResponse.Cursor nextCursor = null;
+        if (hasNext) {
+            AnswerTimelineRow last = rows.get(rows.size() - 1);
+            nextCursor = new AnswerTimelineResponse.Cursor(last.getCreatedAt(), last.getAnswerId());
+        }
+        return new AnswerTimelineResponse(groups, hasNext, nextCursor);
+    }
+    
+    // 반응 수는 메모리 집계에서, 반응 목록은 전체 답변에 대해 한 번의 쿼리로 채움
+    private List<AnswerResponse> convertToAnswerResponses(List<Answer> answers) {
+        if (answers.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> answerIds = answers.stream().map(Answer::getId).collect(Collectors.toList());
+        Map<Long, Map<ReactionType, Long>> reactionCounts = reactionCountStore.getCounts(answerIds);
+        Map<Long, List<ReactionResponse>> reactions = reactionService.getReactionsByAnswers(answerIds);
+        
         return answers.stream()
-                .filter(answer -> answer.getUser().getFamilyCode().equals(familyCode))
-                .map(this::convertToAnswerResponse)
+                .map(answer -> convertToAnswerResponse(answer, reactionCounts.get(answer.getId()), 
+                        reactions.get(answer.getId())))
                 .collect(Collectors.toList());
     }
     
-    private AnswerResponse convertToAnswerResponse(Answer answer) {
+    private long totalOf(Map<ReactionType, Long> reactionCounts) {
+        return reactionCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+    
+    private AnswerResponse convertToAnswerResponse(Answer answer, Map<ReactionType, Long> reactionCounts,
+                                                   List<ReactionResponse> reactions) {
         AnswerResponse.UserInfo userInfo = new AnswerResponse.UserInfo(
                 answer.getUser().getId(),
                 answer.getUser().getName(),
@@ -135,7 +294,10 @@ public class AnswerService {
                 answer.getContent(),
                 answer.getCreatedAt(),
                 userInfo,
-                answer.getQuestion().getId()
+                answer.getQuestion().getId(),
+                totalOf(reactionCounts),
+                reactionCounts,
+                reactions
         );
     }
 } 
\ No newline at end of file
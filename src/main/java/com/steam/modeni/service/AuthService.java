@@ -7,11 +7,27 @@ import com.steam.modeni.dto.GetFamilyCodeResponse;
 import com.steam.modeni.dto.JoinFamilyRequest;
 import com.steam.modeni.dto.LoginRequest;
 import com.steam.modeni.dto.SignupRequest;
+import com.steam.modeni.repository.UserJdbcRepository;
 import com.steam.modeni.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @RequiredArgsConstructor
@@ -19,74 +35,121 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
     
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UserJdbcRepository userJdbcRepository;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
+    private final FamilyService familyService;
+    private final FamilyDirectory familyDirectory;
+    private final FamilyCodeAllocator familyCodeAllocator;
+    private final TransactionTemplate transactionTemplate;
     
-    public AuthResponse signup(SignupRequest request) {
-        // 사용자ID 중복 확인
-        if (userRepository.existsByUserId(request.getUserId())) {
-            throw new RuntimeException("이미 사용중인 사용자ID입니다.");
-        }
-        
-        // familyCode 필수 확인
-        if (request.getFamilyCode() == null) {
-            throw new RuntimeException("가족 코드는 필수입니다.");
+    @Value("${security.password-hashing.db-pool-size:4}")
+    private int dbPoolSize;
+    
+    @Value("${security.password-hashing.db-queue-capacity:64}")
+    private int dbQueueCapacity;
+    
+    // 해시가 끝난 뒤의 DB 작업(저장, 가족 갱신, 재해시 저장)을 실행하는 풀
+    // bcrypt 풀은 해시 계산만 하도록 분리, 해시가 끝난 작업은 bcrypt 대기열을 떠나므로
+    // DB가 느릴 때 쌓이지 않도록 대기열을 따로 제한하고 가득 차면 503으로 거부
+    private ThreadPoolExecutor dbExecutor;
+    
+    @PostConstruct
+    void initExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        dbExecutor = new ThreadPoolExecutor(dbPoolSize, dbPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(dbQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "auth-db-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+    
+    @PreDestroy
+    void shutdownExecutor() {
+        dbExecutor.shutdown();
+    }
+    
+    // DB 작업 대기열이 가득 차면 PasswordHashingBusyException으로 실패 (503)
+    private void executeDbTask(Runnable task) {
+        try {
+            dbExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingBusyException();
         }
-        
-        // 사용자 생성
-        User user = new User();
-        user.setUserId(request.getUserId());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
-        user.setName(request.getUsername()); // JSON의 username을 User의 name에 매핑
-        user.setRole(request.getRole());
-        user.setRegion(request.getRegion());
-        user.setAge(request.getAge());
-        
-        // 프론트에서 받은 familyCode를 그대로 저장
-        user.setFamilyCode(request.getFamilyCode());
-        User savedUser = userRepository.save(user);
-        
-        // JWT 토큰 생성
-        String token = jwtUtil.generateToken(savedUser.getUserId(), savedUser.getId());
-        
-        AuthResponse response = new AuthResponse();
-        response.setId(savedUser.getId());
-        response.setName(savedUser.getName());
-        response.setUserId(savedUser.getUserId());
-        response.setRole(savedUser.getRole());
-        response.setRegion(savedUser.getRegion());
-        response.setAge(savedUser.getAge());
-        response.setFamilyCode(savedUser.getFamilyCode());
-        response.setCreatedAt(savedUser.getCreatedAt());
-        response.setToken(token);
-        response.setMessage("회원가입이 성공적으로 완료되었습니다.");
-        
-        return response;
     }
     
-    public AuthResponse login(LoginRequest request) {
+    /**
+     * 회원가입 (비밀번호 해시는 전용 스레드 풀에서 계산한 뒤 INSERT 한 문장으로 저장)
+     * 사용자ID 중복은 미리 조회하지 않고 user_id 유니크 제약으로 거부 (동시 가입에도 안전)
+     * 해시 후 저장은 DB 작업용 풀에서 실행하므로 요청 트랜잭션에 참여하지 않음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<AuthResponse> signup(SignupRequest request) {
+        // 가족 코드가 없으면 새 가족 코드 발급, 있으면 오타 확인 후 정리된 형식 사용
+        String familyCode = request.getFamilyCode() == null || request.getFamilyCode().isBlank()
+                ? familyCodeAllocator.allocate()
+                : familyCodeAllocator.normalize(request.getFamilyCode());
+        
+        return passwordHashingService.encode(request.getPassword())
+                .thenApplyAsync(encodedPassword -> {
+                    // 사용자 생성 (JSON의 username을 User의 name에 매핑)
+                    UserJdbcRepository.NewUser newUser = new UserJdbcRepository.NewUser(
+                            request.getUserId(), encodedPassword, request.getUsername(), request.getRole(),
+                            request.getRegion(), request.getAge(), familyCode);
+                    LocalDateTime createdAt = LocalDateTime.now();
+                    Long id;
+                    try {
+                        // 사용자 저장과 가족 구성원 수 갱신을 한 트랜잭션으로 처리
+                        id = transactionTemplate.execute(status -> {
+                            familyService.lockMembership(Collections.singletonList(familyCode));
+                            Long insertedId = userJdbcRepository.insert(newUser, createdAt);
+                            familyService.refreshMembership(Collections.singletonList(familyCode));
+                            familyDirectory.invalidateUser(insertedId, familyCode);
+                            return insertedId;
+                        });
+                    } catch (DuplicateKeyException e) {
+                        throw new RuntimeException("이미 사용중인 사용자ID입니다.");
+                    }
+                    
+                    User savedUser = new User();
+                    savedUser.setId(id);
+                    savedUser.setUserId(newUser.userId());
+                    savedUser.setName(newUser.name());
+                    savedUser.setRole(newUser.role());
+                    savedUser.setRegion(newUser.region());
+                    savedUser.setAge(newUser.age());
+                    savedUser.setFamilyCode(familyCode);
+                    savedUser.setCreatedAt(createdAt);
+                    
+                    // JWT 토큰 생성
+                    String token = jwtUtil.generateToken(savedUser.getUserId(), savedUser.getId(), savedUser.getFamilyCode());
+                    return toAuthResponse(savedUser, token, "회원가입이 성공적으로 완료되었습니다.");
+                }, this::executeDbTask);
+    }
+    
+    /**
+     * 로그인 (비밀번호 검증은 전용 스레드 풀에서, 작업 비용이 바뀐 해시는 DB 작업용 풀에서 새 해시로 교체)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<AuthResponse> login(LoginRequest request) {
         User user = userRepository.findByUserId(request.getUserId())
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 사용자ID입니다."));
         
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new RuntimeException("비밀번호가 일치하지 않습니다.");
-        }
-        
-        String token = jwtUtil.generateToken(user.getUserId(), user.getId());
-        
-        AuthResponse response = new AuthResponse();
-        response.setId(user.getId());
-        response.setName(user.getName());
-        response.setUserId(user.getUserId());
-        response.setRole(user.getRole());
-        response.setRegion(user.getRegion());
-        response.setAge(user.getAge());
-        response.setFamilyCode(user.getFamilyCode());
-        response.setCreatedAt(user.getCreatedAt());
-        response.setToken(token);
-        response.setMessage("로그인이 성공적으로 완료되었습니다.");
-        
-        return response;
+        return passwordHashingService.verify(request.getPassword(), user.getPassword())
+                .thenApplyAsync(verification -> {
+                    if (!verification.matches()) {
+                        throw new RuntimeException("비밀번호가 일치하지 않습니다.");
+                    }
+                    if (verification.rehashed() != null) {
+                        transactionTemplate.executeWithoutResult(status -> 
+                                userRepository.updatePassword(user.getId(), verification.rehashed()));
+                    }
+                    
+                    String token = jwtUtil.generateToken(user.getUserId(), user.getId(), user.getFamilyCode());
+                    return toAuthResponse(user, token, "로그인이 성공적으로 완료되었습니다.");
+                }, this::executeDbTask);
     }
     
     public AuthResponse joinFamily(Long userId, JoinFamilyRequest request) {
@@ -94,32 +157,23 @@ public class AuthService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 사용자입니다."));
         
-        // 가족 코드 유효성 확인
-        String familyCode = request.getFamilyCode();
-        if (userRepository.findByFamilyCode(familyCode).isEmpty()) {
+        // 가족 코드 유효성 확인 (오타는 조회 없이 거부, 이후 families 기본 키 조회)
+        String familyCode = familyCodeAllocator.normalize(request.getFamilyCode());
+        if (familyService.findActiveFamily(familyCode).isEmpty()) {
             throw new RuntimeException("존재하지 않는 가족 코드입니다.");
         }
         
-        // 새 가족으로 이동
+        // 새 가족으로 이동 (두 가족 행을 먼저 잠근 뒤 이전/새 가족의 구성원 수와 기준 구성원 갱신)
+        String previousFamilyCode = user.getFamilyCode();
+        familyService.lockMembership(Arrays.asList(previousFamilyCode, familyCode));
         user.setFamilyCode(familyCode);
-        userRepository.save(user);
-        
-        // JWT 토큰 재생성
-        String token = jwtUtil.generateToken(user.getUserId(), user.getId());
+        userRepository.saveAndFlush(user);
+        familyService.refreshMembership(Arrays.asList(previousFamilyCode, familyCode));
+        familyDirectory.invalidateUser(user.getId(), previousFamilyCode, familyCode);
         
-        AuthResponse response = new AuthResponse();
-        response.setId(user.getId());
-        response.setName(user.getName());
-        response.setUserId(user.getUserId());
-        response.setRole(user.getRole());
-        response.setRegion(user.getRegion());
-        response.setAge(user.getAge());
-        response.setFamilyCode(user.getFamilyCode());
-        response.setCreatedAt(user.getCreatedAt());
-        response.setToken(token);
-        response.setMessage("가족 참여가 성공적으로 완료되었습니다!");
-        
-        return response;
+        // JWT 토큰 재생성 (새 가족 코드 클레임 반영)
+        String token = jwtUtil.generateToken(user.getUserId(), user.getId(), user.getFamilyCode());
+        return toAuthResponse(user, token, "가족 참여가 성공적으로 완료되었습니다!");
     }
     
     public GetFamilyCodeResponse getFamilyCode(Long userId) {
@@ -132,12 +186,19 @@ public class AuthService {
                 "가족 코드입니다. 다른 가족 구성원들에게 공유해주세요!");
     }
     
-    private String generateFamilyCode() {
-        String code;
-        do {
-            code = String.valueOf(System.currentTimeMillis() % 1000000L); // 6자리 숫자 문자열
-        } while (!userRepository.findByFamilyCode(code).isEmpty());
-        return code;
+    private AuthResponse toAuthResponse(User user, String token, String message) {
+        AuthResponse response = new AuthResponse();
+        response.setId(user.getId());
+        response.setName(user.getName());
+        response.setUserId(user.getUserId());
+        response.setRole(user.getRole());
+        response.setRegion(user.getRegion());
+        response.setAge(user.getAge());
+        response.setFamilyCode(user.getFamilyCode());
+        response.setCreatedAt(user.getCreatedAt());
+        response.setToken(token);
+        response.setMessage(message);
+        return response;
     }
     
     private String parseFamilyCode(String familyCodeStr) {
@@ -0,0 +1,231 @@
+package com.steam.modeni.service;
+
+import com.steam.modeni.domain.entity.Question;
+import com.steam.modeni.domain.entity.QuestionGenerationCheckpoint;
+import com.steam.modeni.domain.entity.User;
+import com.steam.modeni.repository.QuestionGenerationCheckpointRepository;
+import com.steam.modeni.repository.UserDailyQuestionJdbcRepository;
+import com.steam.modeni.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 모든 가족의 일일 질문(UserDailyQuestion)을 오전 9시 전에 미리 생성하는 배치
+ * - 가족 코드를 해시 기준으로 고정 개수의 청크로 나누어 병렬 처리
+ * - 청크 단위로 완료 기록(가족 구성 지문 포함)을 남겨 중단 후 재실행 시 이어서 처리
+ *   완료 후 청크에 가족이 추가/삭제되었으면 다시 처리 (이미 만든 행은 건너뛰므로 그대로)
+ */
+@Service
+@RequiredArgsConstructor
+public class DailyQuestionBatchService {
+    
+    private final UserRepository userRepository;
+    private final FamilyDailyQuestionService familyDailyQuestionService;
+    private final UserDailyQuestionJdbcRepository userDailyQuestionJdbcRepository;
+    private final QuestionGenerationCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final FamilyClock familyClock;
+    
+    @Value("${daily-question.batch.chunk-count:64}") // 청크 수 (변경 시 같은 날짜의 재실행은 처음부터 다시 처리)
+    private int chunkCount;
+    
+    @Value("${daily-question.batch.parallelism:4}")
+    private int parallelism;
+    
+    private ThreadPoolExecutor executor;
+    
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile Map<String, Object> lastRunStats = Map.of();
+    
+    @PostConstruct
+    void initExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(chunkCount),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "daily-question-batch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+    
+    @PreDestroy
+    void shutdownExecutor() {
+        executor.shutdown();
+    }
+    
+    /**
+     * 매일 새벽 오늘(교체 시각부터 노출될) 질문을 모든 가족 구성원에게 미리 생성 (기본 시간대 기준)
+     */
+    @Scheduled(cron = "${daily-question.batch.cron:0 30 3 * * *}", zone = "${daily-question.default-time-zone:Asia/Seoul}")
+    public void runNightly() {
+        run(upcomingQuestionDate());
+    }
+    
+    /**
+     * 기본 시간대의 오늘 날짜 (서버 시간대와 무관하게 가족 질문 날짜와 같은 기준)
+     */
+    public LocalDate upcomingQuestionDate() {
+        return LocalDate.now(familyClock.getDefaultBucket().zoneId());
+    }
+    
+    /**
+     * 특정 날짜의 일일 질문 생성 실행 (완료된 청크는 건너뜀)
+     */
+    public Map<String, Object> run(LocalDate questionDate) {
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("일일 질문 생성 배치가 이미 실행 중입니다.");
+        }
+        try {
+            return execute(questionDate);
+        } finally {
+            running.set(false);
+        }
+    }
+    
+    /**
+     * 마지막 실행 결과 (처리량 포함)
+     */
+    public Map<String, Object> getLastRunStats() {
+        return lastRunStats;
+    }
+    
+    private Map<String, Object> execute(LocalDate questionDate) {
+        long startedAt = System.nanoTime();
+        
+        List<List<String>> chunks = partitionFamilyCodes(userRepository.findDistinctFamilyCodes());
+        Map<Integer, Long> completedFingerprints = new HashMap<>();
+        for (QuestionGenerationCheckpoint checkpoint : checkpointRepository.findByQuestionDate(questionDate)) {
+            completedFingerprints.put(checkpoint.getChunkIndex(), checkpoint.getFamilyFingerprint());
+        }
+        
+        int skippedChunks = 0;
+        AtomicInteger processedChunks = new AtomicInteger();
+        AtomicInteger failedChunks = new AtomicInteger();
+        AtomicInteger familyCount = new AtomicInteger();
+        AtomicInteger rowCount = new AtomicInteger();
+        
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int chunkIndex = 0; chunkIndex < chunks.size(); chunkIndex++) {
+            List<String> familyCodes = chunks.get(chunkIndex);
+            if (familyCodes.isEmpty()) {
+                continue;
+            }
+            long fingerprint = familyFingerprint(familyCodes);
+            if (Long.valueOf(fingerprint).equals(completedFingerprints.get(chunkIndex))) {
+                skippedChunks++;
+                continue;
+            }
+            int index = chunkIndex;
+            futures.add(CompletableFuture
+                    .runAsync(() -> {
+                        int rows = processChunk(questionDate, index, familyCodes, fingerprint);
+                        processedChunks.incrementAndGet();
+                        familyCount.addAndGet(familyCodes.size());
+                        rowCount.addAndGet(rows);
+                    }, executor)
+                    .exceptionally(e -> {
+                        failedChunks.incrementAndGet();
+                        System.out.println("❌ 일일 질문 생성 청크 " + index + " 실패: " + e.getMessage());
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        
+        long elapsedMillis = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("questionDate", questionDate);
+        stats.put("finishedAt", LocalDateTime.now());
+        stats.put("chunkCount", chunks.size());
+        stats.put("skippedChunks", skippedChunks);
+        stats.put("processedChunks", processedChunks.get());
+        stats.put("failedChunks", failedChunks.get());
+        stats.put("familyCount", familyCount.get());
+        stats.put("rowCount", rowCount.get());
+        stats.put("elapsedMillis", elapsedMillis);
+        stats.put("familiesPerSecond", familyCount.get() * 1000.0 / elapsedMillis);
+        stats.put("rowsPerSecond", rowCount.get() * 1000.0 / elapsedMillis);
+        lastRunStats = stats;
+        
+        System.out.println("📦 " + questionDate + " 일일 질문 사전 생성 완료: 가족 " + familyCount.get() 
+                         + "개, " + rowCount.get() + "건, " + elapsedMillis + "ms (실패 청크 " + failedChunks.get() + "개)");
+        return stats;
+    }
+    
+    // 가족 코드 해시로 청크를 고정하여 가족이 추가되어도 다른 청크의 구성이 바뀌지 않도록 함
+    private List<List<String>> partitionFamilyCodes(List<String> familyCodes) {
+        List<List<String>> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            chunks.add(new ArrayList<>());
+        }
+        for (String familyCode : familyCodes) {
+            chunks.get(Math.floorMod(familyCode.hashCode(), chunkCount)).add(familyCode);
+        }
+        return chunks;
+    }
+    
+    // 청크의 가족 코드 구성 요약 (순서 무관, 가족이 추가/삭제되면 달라짐)
+    static long familyFingerprint(List<String> familyCodes) {
+        long fingerprint = familyCodes.size();
+        for (String familyCode : familyCodes) {
+            long hash = 1125899906842597L;
+            for (int i = 0; i < familyCode.length(); i++) {
+                hash = 31 * hash + familyCode.charAt(i);
+            }
+            hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+            fingerprint += hash ^ (hash >>> 33);
+        }
+        return fingerprint;
+    }
+    
+    // 청크 하나를 한 트랜잭션으로 처리 (행 저장 + 완료 기록), 실제로 새로 저장된 행 수 반환
+    private int processChunk(LocalDate questionDate, int chunkIndex, List<String> familyCodes, long fingerprint) {
+        Integer rows = transactionTemplate.execute(status -> {
+            Map<String, Question> familyQuestions = 
+                    familyDailyQuestionService.getQuestionsForFamilies(familyCodes, questionDate);
+            
+            List<UserDailyQuestionJdbcRepository.NewRow> newRows = new ArrayList<>();
+            for (User user : userRepository.findByFamilyCodeIn(familyCodes)) {
+                LocalDate userJoinDate = user.getCreatedAt().toLocalDate();
+                if (userJoinDate.isAfter(questionDate)) {
+                    continue;
+                }
+                int dayNumber = (int) ChronoUnit.DAYS.between(userJoinDate, questionDate) + 1;
+                newRows.add(new UserDailyQuestionJdbcRepository.NewRow(
+                        user.getId(), familyQuestions.get(user.getFamilyCode()).getId(), questionDate, dayNumber));
+            }
+            
+            int inserted = userDailyQuestionJdbcRepository.batchInsertSkippingExisting(newRows);
+            QuestionGenerationCheckpoint checkpoint = checkpointRepository
+                    .findByQuestionDateAndChunkIndex(questionDate, chunkIndex)
+                    .orElseGet(() -> new QuestionGenerationCheckpoint(questionDate, chunkIndex));
+            checkpoint.setFamilyCount(familyCodes.size());
+            checkpoint.setFamilyFingerprint(fingerprint);
+            checkpoint.setRowCount(checkpoint.getRowCount() + inserted);
+            checkpointRepository.save(checkpoint);
+            return inserted;
+        });
+        return rows != null ? rows : 0;
+    }
+}
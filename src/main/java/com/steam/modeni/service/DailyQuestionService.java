@@ -1,31 +1,47 @@
 package com.steam.modeni.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.steam.modeni.domain.entity.Question;
-import com.steam.modeni.repository.QuestionRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
-import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+/**
+ * 가족별 오늘의 질문 조회 (캐시 적중 시 DB 커넥션을 사용하지 않도록 트랜잭션 없이 동작)
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class DailyQuestionService {
     
-    private final QuestionRepository questionRepository;
+    private final FamilyDailyQuestionService familyDailyQuestionService;
+    private final FamilyClock familyClock;
     
-    // 가족별 일일 질문을 저장하는 메모리 캐시
-    private final Map<String, Question> familyDailyQuestions = new HashMap<>();
-    private final Map<String, LocalDate> familyQuestionDates = new HashMap<>();
+    @Value("${daily-question.cache.max-size:10000}")
+    private long cacheMaxSize;
+    
+    // (가족 코드, 질문 날짜) -> 질문. 크기 제한 + 가족별 단일 로딩
+    private Cache<FamilyQuestionKey, Question> todayQuestionCache;
+    
+    @PostConstruct
+    void initCache() {
+        todayQuestionCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofDays(2))
+                .recordStats()
+                .build();
+    }
     
     /**
      * 특정 질문이 특정 가족의 오늘 질문인지 확인
@@ -39,62 +55,75 @@ public class DailyQuestionService {
      * 특정 가족의 오늘 질문 조회
      */
     public Question getTodayQuestionForFamily(String familyCode) {
-        LocalDate today = LocalDate.now();
-        LocalDateTime now = LocalDateTime.now();
-        LocalTime currentTime = now.toLocalTime();
-        LocalTime nineAM = LocalTime.of(9, 0);
-        
-        Question familyQuestion = familyDailyQuestions.get(familyCode);
-        LocalDate familyQuestionDate = familyQuestionDates.get(familyCode);
-        
-        boolean needNewQuestion = false;
-        
-        // 첫 번째 요청이거나 질문이 없는 경우
-        if (familyQuestion == null || familyQuestionDate == null) {
-            needNewQuestion = true;
-        } else if (!today.equals(familyQuestionDate)) {
-            // 날짜가 바뀐 경우
-            if (currentTime.isAfter(nineAM) || currentTime.equals(nineAM)) {
-                // 오전 9시 이후면 새로운 질문
-                needNewQuestion = true;
-            }
-            // 오전 9시 이전이면 어제 질문 유지
-        }
-        
-        if (needNewQuestion) {
-            selectNewQuestionForFamily(familyCode);
-            familyQuestion = familyDailyQuestions.get(familyCode);
+        FamilyQuestionKey key = new FamilyQuestionKey(familyCode, familyClock.currentQuestionDate(familyCode));
+        return todayQuestionCache.get(key, k -> toFamilyQuestion(
+                familyDailyQuestionService.getQuestionForFamily(k.familyCode(), k.questionDate()), k.familyCode()));
+    }
+    
+    /**
+     * 가족의 현재 노출되는 질문 날짜 (가족 시간대의 교체 시각 이전이면 전날 질문 유지)
+     */
+    public LocalDate currentQuestionDate(String familyCode) {
+        return familyClock.currentQuestionDate(familyCode);
+    }
+    
+    /**
+     * 캐시에 올라와 있는 가족 코드 목록
+     */
+    public Set<String> getCachedFamilyCodes() {
+        return todayQuestionCache.asMap().keySet().stream()
+                .map(FamilyQuestionKey::familyCode)
+                .collect(Collectors.toSet());
+    }
+    
+    /**
+     * 지정한 가족들의 특정 날짜 질문을 미리 캐시에 적재 (교체 시각 직전 호출)
+     */
+    public int preloadQuestions(Collection<String> familyCodes, LocalDate questionDate) {
+        List<String> targets = familyCodes.stream()
+                .filter(familyCode -> todayQuestionCache.getIfPresent(
+                        new FamilyQuestionKey(familyCode, questionDate)) == null)
+                .toList();
+        if (targets.isEmpty()) {
+            return 0;
         }
         
-        // 질문이 있다면 가족 코드를 실제 가족 코드로 설정하여 새 객체 반환
-        if (familyQuestion != null) {
-            Question responseQuestion = new Question();
-            responseQuestion.setId(familyQuestion.getId());
-            responseQuestion.setContent(familyQuestion.getContent());
-            responseQuestion.setFamilyCode(familyCode); // 실제 가족 코드로 설정
-            responseQuestion.setCreatedAt(familyQuestion.getCreatedAt());
-            return responseQuestion;
-        }
+        familyDailyQuestionService.getQuestionsForFamilies(targets, questionDate)
+                .forEach((familyCode, question) -> todayQuestionCache.put(
+                        new FamilyQuestionKey(familyCode, questionDate), toFamilyQuestion(question, familyCode)));
+        return targets.size();
+    }
+    
+    /**
+     * 오늘의 질문 캐시 통계
+     */
+    public Map<String, Object> getCacheStats() {
+        CacheStats stats = todayQuestionCache.stats();
         
-        return null;
+        Map<String, Object> response = new HashMap<>();
+        response.put("size", todayQuestionCache.estimatedSize());
+        response.put("maxSize", cacheMaxSize);
+        response.put("hitCount", stats.hitCount());
+        response.put("missCount", stats.missCount());
+        response.put("hitRate", stats.hitRate());
+        response.put("evictionCount", stats.evictionCount());
+        response.put("loadCount", stats.loadCount());
+        return response;
     }
     
-    private void selectNewQuestionForFamily(String familyCode) {
-        List<Question> allQuestions = questionRepository.findAll();
-        if (!allQuestions.isEmpty()) {
-            // 오늘 날짜
-            LocalDate today = LocalDate.now();
-
-            // 시드: familyCode의 해시값 + 오늘 날짜를 기준으로 안정적인 Random 시드 생성
-            long seed = Math.abs(familyCode.hashCode()) * 1000L + today.toEpochDay();
-            Random random = new Random(seed);
-
-            Question selectedQuestion = allQuestions.get(random.nextInt(allQuestions.size()));
-
-            familyDailyQuestions.put(familyCode, selectedQuestion);
-            familyQuestionDates.put(familyCode, today);
-
-            System.out.println("🎯 가족 " + familyCode + "의 오늘 질문이 선택되었습니다: " + selectedQuestion.getContent());
+    // 가족 코드를 실제 가족 코드로 설정하여 새 객체 반환
+    private Question toFamilyQuestion(Question familyQuestion, String familyCode) {
+        if (familyQuestion == null) {
+            return null;
         }
+        Question responseQuestion = new Question();
+        responseQuestion.setId(familyQuestion.getId());
+        responseQuestion.setContent(familyQuestion.getContent());
+        responseQuestion.setFamilyCode(familyCode); // 실제 가족 코드로 설정
+        responseQuestion.setCreatedAt(familyQuestion.getCreatedAt());
+        return responseQuestion;
+    }
+    
+    private record FamilyQuestionKey(String familyCode, LocalDate questionDate) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,140 @@
+package com.steam.modeni.service;
+
+import com.steam.modeni.domain.entity.Family;
+import com.steam.modeni.repository.FamilyRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가족별 "오늘의 질문 날짜" 계산
+ * - 가족마다 시간대와 질문 교체 시각을 가질 수 있으며, 기본값과 다른 가족만 메모리에 보관
+ * - 교체 시각 이전이면 전날 질문이 유지됨
+ * - 다른 인스턴스에서 변경한 설정도 반영되도록 families에서 주기적으로 다시 읽음
+ */
+@Component
+@RequiredArgsConstructor
+public class FamilyClock {
+    
+    private final FamilyRepository familyRepository;
+    
+    @Value("${daily-question.default-time-zone:Asia/Seoul}")
+    private String defaultTimeZone;
+    
+    @Value("${daily-question.default-rollover-time:09:00}")
+    private String defaultRolloverTime;
+    
+    private Bucket defaultBucket;
+    
+    // 기본값과 다른 설정을 가진 가족 -> 버킷 (같은 설정은 같은 버킷 인스턴스를 공유)
+    private final Map<String, Bucket> customBuckets = new ConcurrentHashMap<>();
+    private final Map<Bucket, Bucket> internedBuckets = new ConcurrentHashMap<>();
+    
+    @PostConstruct
+    void loadBuckets() {
+        defaultBucket = new Bucket(ZoneId.of(defaultTimeZone), LocalTime.parse(defaultRolloverTime));
+        internedBuckets.put(defaultBucket, defaultBucket);
+        reloadCustomBuckets();
+    }
+    
+    /**
+     * families에서 기본값과 다른 가족 설정을 다시 읽어 반영 (기본값으로 돌아간 가족은 제거)
+     */
+    @Scheduled(fixedDelayString = "${daily-question.bucket-reload-interval-ms:30000}",
+               initialDelayString = "${daily-question.bucket-reload-interval-ms:30000}")
+    public void reloadCustomBuckets() {
+        Map<String, Bucket> loaded = new HashMap<>();
+        List<Family> customFamilies = familyRepository.findByTimeZoneNotOrRolloverTimeNot(
+                defaultBucket.zoneId().getId(), defaultBucket.rolloverTime());
+        for (Family family : customFamilies) {
+            loaded.put(family.getFamilyCode(), 
+                    new Bucket(ZoneId.of(family.getTimeZone()), family.getRolloverTime()));
+        }
+        customBuckets.keySet().retainAll(loaded.keySet());
+        loaded.forEach(this::setBucket);
+    }
+    
+    public Bucket getDefaultBucket() {
+        return defaultBucket;
+    }
+    
+    public Bucket bucketOf(String familyCode) {
+        if (familyCode == null) {
+            return defaultBucket;
+        }
+        return customBuckets.getOrDefault(familyCode, defaultBucket);
+    }
+    
+    /**
+     * 가족의 시간대/교체 시각 반영
+     */
+    public void setBucket(String familyCode, Bucket bucket) {
+        Bucket interned = internedBuckets.computeIfAbsent(bucket, b -> b);
+        if (interned.equals(defaultBucket)) {
+            customBuckets.remove(familyCode);
+        } else {
+            customBuckets.put(familyCode, interned);
+        }
+    }
+    
+    /**
+     * 현재 사용 중인 모든 버킷 (기본 버킷 포함)
+     */
+    public Set<Bucket> buckets() {
+        Set<Bucket> buckets = new HashSet<>(customBuckets.values());
+        buckets.add(defaultBucket);
+        return buckets;
+    }
+    
+    /**
+     * 기본값이 아닌 버킷에 속한 가족 코드 (기본 버킷은 대상 가족을 따로 보관하지 않음)
+     */
+    public List<String> customFamiliesIn(Bucket bucket) {
+        return customBuckets.entrySet().stream()
+                .filter(entry -> entry.getValue().equals(bucket))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+    
+    /**
+     * 가족의 현재 질문 날짜
+     */
+    public LocalDate currentQuestionDate(String familyCode) {
+        return questionDateAt(familyCode, Instant.now());
+    }
+    
+    /**
+     * 특정 시점에 가족에게 노출되는 질문 날짜
+     */
+    public LocalDate questionDateAt(String familyCode, Instant instant) {
+        return bucketOf(familyCode).questionDateAt(instant);
+    }
+    
+    /**
+     * 같은 시간대 + 교체 시각을 쓰는 가족 묶음
+     */
+    public record Bucket(ZoneId zoneId, LocalTime rolloverTime) {
+        
+        public LocalDate questionDateAt(Instant instant) {
+            ZonedDateTime local = instant.atZone(zoneId);
+            if (local.toLocalTime().isBefore(rolloverTime)) {
+                return local.toLocalDate().minusDays(1);
+            }
+            return local.toLocalDate();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.steam.modeni.service;
+
+import com.steam.modeni.repository.FamilyCodeSequenceJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 서버에서 발급하는 가족 코드 (예: K7QM-2XD)
+ * - DB 카운터에서 블록 단위로 값을 예약해 두고 메모리에서 하나씩 발급 (발급마다 DB 조회 없음)
+ * - 카운터 값을 30비트 Feistel 순열로 섞어 순서를 추측할 수 없게 하고, 순열이므로 서로 다른 값은 항상 다른 코드
+ * - Crockford base32 6자리 + Damm 검사 문자 1자리, 발급 형식("XXXX-XXX")의 오타는 DB 조회 전에 거부
+ * - 기존(프론트 발급) 코드는 발급 형식이 아니면 그대로 통과
+ */
+@Component
+public class FamilyCodeAllocator {
+    
+    private static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ"; // Crockford base32
+    private static final int RADIX = 32;
+    private static final int PAYLOAD_LENGTH = 6;
+    private static final int HALF_BITS = 15;
+    private static final int HALF_MASK = (1 << HALF_BITS) - 1;
+    private static final long MAX_COUNTER = 1L << (2 * HALF_BITS);
+    private static final int ROUNDS = 4;
+    private static final int FIELD_POLYNOMIAL = 0b100101; // x^5 + x^2 + 1 (GF(32) 기약 다항식)
+    private static final int DAMM_MULTIPLIER = 2; // 0, 1이 아니면 x∘y = a·x + y 는 완전 반대칭
+    
+    private final FamilyCodeSequenceJdbcRepository sequenceRepository;
+    private final int blockSize;
+    private final int[] roundKeys = new int[ROUNDS];
+    
+    // 현재 예약된 블록 [nextValue, blockEnd)
+    private long nextValue;
+    private long blockEnd;
+    
+    public FamilyCodeAllocator(FamilyCodeSequenceJdbcRepository sequenceRepository,
+                               @Value("${family-code.block-size:100}") int blockSize,
+                               @Value("${family-code.permutation-key:7046029254386353131}") long permutationKey) {
+        this.sequenceRepository = sequenceRepository;
+        this.blockSize = blockSize;
+        long seed = permutationKey;
+        for (int i = 0; i < ROUNDS; i++) {
+            seed = seed * 6364136223846793005L + 1442695040888963407L;
+            roundKeys[i] = (int) (seed >>> 32);
+        }
+    }
+    
+    /**
+     * 새 가족 코드 발급 (블록이 소진되었을 때만 DB에서 다음 블록 예약)
+     */
+    public synchronized String allocate() {
+        if (nextValue >= blockEnd) {
+            long start = sequenceRepository.reserveBlock(blockSize);
+            if (start + blockSize > MAX_COUNTER) {
+                throw new IllegalStateException("발급 가능한 가족 코드를 모두 사용했습니다.");
+            }
+            nextValue = start;
+            blockEnd = start + blockSize;
+        }
+        return encode(permute(nextValue++));
+    }
+    
+    /**
+     * 입력된 가족 코드를 저장 형식으로 정리 (서버 발급 형식이 아닌 기존 코드는 그대로 반환)
+     * - "XXXX-XXX" 자리 형식이면 서버 발급 코드로 보고, 문자/검사 문자가 맞지 않으면 오타로 거부
+     * - 하이픈 없는 7자는 검사 문자까지 맞을 때만 서버 발급 코드로 보고 하이픈을 넣어 반환
+     * - 그 밖의 입력(프론트에서 만든 기존 코드 등)은 바꾸지 않음
+     */
+    public String normalize(String familyCode) {
+        if (familyCode == null) {
+            return null;
+        }
+        String trimmed = familyCode.trim();
+        if (isAllocatedShape(trimmed)) {
+            String compact = (trimmed.substring(0, 4) + trimmed.substring(5)).toUpperCase(Locale.ROOT)
+                    .replace('O', '0').replace('I', '1').replace('L', '1');
+            if (!inAlphabet(compact) || !hasValidCheckCharacter(compact)) {
+                throw new RuntimeException("가족 코드를 다시 확인해주세요.");
+            }
+            return format(compact);
+        }
+        if (trimmed.length() == PAYLOAD_LENGTH + 1) {
+            String compact = trimmed.toUpperCase(Locale.ROOT);
+            if (inAlphabet(compact) && hasValidCheckCharacter(compact)) {
+                return format(compact);
+            }
+        }
+        return trimmed;
+    }
+    
+    // "XXXX-XXX": 8자, 다섯 번째 자리만 하이픈이고 나머지는 영문/숫자
+    private static boolean isAllocatedShape(String trimmed) {
+        if (trimmed.length() != PAYLOAD_LENGTH + 2 || trimmed.charAt(4) != '-') {
+            return false;
+        }
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (i != 4 && !((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean inAlphabet(String compact) {
+        for (int i = 0; i < compact.length(); i++) {
+            if (ALPHABET.indexOf(compact.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    // 30비트 값을 15비트 두 부분으로 나눈 Feistel 네트워크 (역연산이 있으므로 전단사)
+    private int permute(long counter) {
+        int left = (int) (counter >>> HALF_BITS) & HALF_MASK;
+        int right = (int) counter & HALF_MASK;
+        for (int i = 0; i < ROUNDS; i++) {
+            int mixed = left ^ round(right, roundKeys[i]);
+            left = right;
+            right = mixed;
+        }
+        return (left << HALF_BITS) | right;
+    }
+    
+    private static int round(int half, int key) {
+        int h = half * 0x9E3779B1 ^ key;
+        h ^= h >>> 15;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h & HALF_MASK;
+    }
+    
+    private static String encode(int value) {
+        char[] payload = new char[PAYLOAD_LENGTH];
+        for (int i = PAYLOAD_LENGTH - 1; i >= 0; i--) {
+            payload[i] = ALPHABET.charAt(value & (RADIX - 1));
+            value >>>= 5;
+        }
+        String compact = new String(payload) + ALPHABET.charAt(checkCharacterIndex(payload));
+        return format(compact);
+    }
+    
+    private static String format(String compact) {
+        return compact.substring(0, 4) + "-" + compact.substring(4);
+    }
+    
+    // Damm 검사 문자: 한 글자 오타와 인접한 두 글자 자리바꿈을 모두 검출
+    // (Luhn mod 32는 0과 Z의 자리바꿈을 놓치므로 GF(32) 위의 완전 반대칭 연산 x∘y = 2·x + y 사용)
+    private static int checkCharacterIndex(char[] payload) {
+        int interim = 0;
+        for (char c : payload) {
+            interim = dammStep(interim, ALPHABET.indexOf(c));
+        }
+        return gfMultiply(DAMM_MULTIPLIER, interim); // interim∘check = 0 이 되는 값
+    }
+    
+    private static boolean hasValidCheckCharacter(String compact) {
+        int interim = 0;
+        for (int i = 0; i < compact.length(); i++) {
+            interim = dammStep(interim, ALPHABET.indexOf(compact.charAt(i)));
+        }
+        return interim == 0;
+    }
+    
+    private static int dammStep(int interim, int digit) {
+        return gfMultiply(DAMM_MULTIPLIER, interim) ^ digit;
+    }
+    
+    // GF(32) 곱셈 (덧셈은 XOR, x^5 + x^2 + 1 로 나눈 나머지)
+    private static int gfMultiply(int a, int b) {
+        int product = 0;
+        while (b != 0) {
+            if ((b & 1) != 0) {
+                product ^= a;
+            }
+            b >>>= 1;
+            a <<= 1;
+            if ((a & RADIX) != 0) {
+                a ^= FIELD_POLYNOMIAL;
+            }
+        }
+        return product;
+    }
+}
@@ -0,0 +1,135 @@
+package com.steam.modeni.service;
+
+import com.steam.modeni.domain.entity.FamilyDailyQuestion;
+import com.steam.modeni.domain.entity.FamilyDailyQuestionId;
+import com.steam.modeni.domain.entity.Question;
+import com.steam.modeni.repository.FamilyDailyQuestionRepository;
+import com.steam.modeni.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class FamilyDailyQuestionService {
+    
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+    
+    private final FamilyDailyQuestionRepository familyDailyQuestionRepository;
+    private final SystemQuestionCatalog systemQuestionCatalog;
+    private final QuestionRotationEngine questionRotationEngine;
+    private final UserRepository userRepository;
+    private final FamilyClock familyClock;
+    
+    @Value("${daily-question.schedule-days:7}") // 오늘 포함 미리 배정할 일 수
+    private int scheduleDays;
+    
+    /**
+     * 특정 가족의 특정 날짜 질문 조회 (배정표 기본키 조회, 없으면 순환 규칙으로 계산)
+     */
+    @Transactional(readOnly = true)
+    public Question getQuestionForFamily(String familyCode, LocalDate questionDate) {
+        return familyDailyQuestionRepository
+                .findWithQuestionById(new FamilyDailyQuestionId(familyCode, questionDate))
+                .map(FamilyDailyQuestion::getQuestion)
+                .orElseGet(() -> questionRotationEngine.pick(familyCode, questionDate));
+    }
+    
+    /**
+     * 특정 가족의 기간별 질문 일괄 조회 (배정되지 않은 날짜는 순환 규칙으로 계산)
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Question> getQuestionsForFamily(String familyCode, LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, Question> questions = new HashMap<>();
+        for (FamilyDailyQuestion schedule : 
+                familyDailyQuestionRepository.findByFamilyCodeAndDateRange(familyCode, startDate, endDate)) {
+            questions.put(schedule.getId().getQuestionDate(), schedule.getQuestion());
+        }
+        
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (!questions.containsKey(date)) {
+                questions.put(date, questionRotationEngine.pick(familyCode, date));
+            }
+        }
+        return questions;
+    }
+    
+    /**
+     * 여러 가족의 특정 날짜 질문 일괄 조회 (배정되지 않은 가족은 순환 규칙으로 계산)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Question> getQuestionsForFamilies(Collection<String> familyCodes, LocalDate questionDate) {
+        Map<String, Question> questions = new HashMap<>();
+        List<String> codes = new ArrayList<>(familyCodes);
+        for (int from = 0; from < codes.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<String> chunk = codes.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, codes.size()));
+            for (FamilyDailyQuestion schedule : 
+                    familyDailyQuestionRepository.findWithQuestionByDateAndFamilyCodes(questionDate, chunk)) {
+                questions.put(schedule.getId().getFamilyCode(), schedule.getQuestion());
+            }
+        }
+        
+        if (questions.size() < codes.size()) {
+            for (String familyCode : codes) {
+                questions.computeIfAbsent(familyCode, code -> questionRotationEngine.pick(code, questionDate));
+            }
+        }
+        return questions;
+    }
+    
+    /**
+     * 애플리케이션 시작 시 배정표 생성 (초기 질문 저장 이후 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void generateOnStartup() {
+        generateUpcomingSchedules();
+    }
+    
+    /**
+     * 모든 가족의 오늘부터 N일간 질문을 미리 배정
+     */
+    @Scheduled(cron = "${daily-question.schedule-cron:0 0 3 * * *}", zone = "${daily-question.default-time-zone:Asia/Seoul}")
+    public void generateUpcomingSchedules() {
+        if (systemQuestionCatalog.size() == 0) {
+            return;
+        }
+        
+        // 서버 시간대가 아니라 기본 시간대의 오늘 기준
+        LocalDate today = LocalDate.now(familyClock.getDefaultBucket().zoneId());
+        LocalDate startDate = today.minusDays(1); // 가족 시간대/교체 시각에 따라 어제 질문이 노출될 수 있음
+        LocalDate endDate = today.plusDays(scheduleDays); // 기본 시간대보다 앞선 시간대 가족 포함
+        
+        Set<FamilyDailyQuestionId> existingIds =
+                new HashSet<>(familyDailyQuestionRepository.findIdsByDateRange(startDate, endDate));
+        
+        List<FamilyDailyQuestion> schedules = new ArrayList<>();
+        for (String familyCode : userRepository.findDistinctFamilyCodes()) {
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                if (existingIds.contains(new FamilyDailyQuestionId(familyCode, date))) {
+                    continue;
+                }
+                schedules.add(new FamilyDailyQuestion(familyCode, date, 
+                        questionRotationEngine.pick(familyCode, date)));
+            }
+        }
+        
+        familyDailyQuestionRepository.saveAll(schedules);
+        
+        System.out.println("🗓️ 가족별 질문 배정표가 생성되었습니다. (" + startDate + " ~ " + endDate 
+                         + ", 신규 " + schedules.size() + "건)");
+    }
+}
@@ -0,0 +1,252 @@
+package com.steam.modeni.service;
+
+import com.steam.modeni.domain.entity.Answer;
+import com.steam.modeni.domain.entity.Family;
+import com.steam.modeni.domain.entity.FamilyDailyQuestionId;
+import com.steam.modeni.domain.entity.Question;
+import com.steam.modeni.repository.AnswerRepository;
+import com.steam.modeni.repository.FamilyDayStatsJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가족별 오늘의 질문 답변 현황 (몇 명이 답변했는지)
+ * - (가족 코드, 질문 날짜)별 카운터를 메모리에 두고 답변 등록/삭제 커밋 시 갱신
+ * - 카운터는 키 해시 기준 락 스트라이프로 보호, 변경된 키만 주기적으로 family_day_stats에 저장
+ * - 저장은 메모리 값이 아니라 answers에서 다시 집계한 값이라 여러 인스턴스가 각자 저장해도 서로 덮어쓰지 않음
+ * - 메모리에 없으면 family_day_stats에서 복원하고, 저장된 행이 없으면 answers에서 한 번 다시 계산
+ * - 삭제 시 첫/마지막 답변 시각을 다시 구해야 하므로 answers에서 다시 계산 (삭제는 드묾)
+ * - 다른 인스턴스의 답변도 보이도록 저장한 키와 오래된 카운터는 메모리에서 내려 다음 조회 때 다시 읽음
+ */
+@Service
+@RequiredArgsConstructor
+public class FamilyDayStatsService {
+    
+    private static final int LOCK_STRIPES = 64;
+    private static final int RETAIN_DAYS = 2; // 이보다 오래된 날짜의 카운터는 저장 후 메모리에서 제거
+    
+    private final AnswerRepository answerRepository;
+    private final FamilyService familyService;
+    private final FamilyDayStatsJdbcRepository familyDayStatsJdbcRepository;
+    private final DailyQuestionService dailyQuestionService;
+    private final FamilyClock familyClock;
+    private final PlatformTransactionManager transactionManager;
+    
+    @Value("${family-day-stats.expire-after-load-ms:30000}") // 읽기만 한 카운터를 다시 읽는 주기
+    private long expireAfterLoadMillis;
+    
+    private final Map<FamilyDailyQuestionId, DayCounter> counters = new ConcurrentHashMap<>();
+    private final Set<FamilyDailyQuestionId> dirtyKeys = ConcurrentHashMap.newKeySet();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    
+    // 커밋 이후에도 조회할 수 있도록 별도 읽기 전용 트랜잭션 사용
+    private TransactionTemplate loadTransaction;
+    
+    @PostConstruct
+    void init() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        loadTransaction = new TransactionTemplate(transactionManager);
+        loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        loadTransaction.setReadOnly(true);
+    }
+    
+    /**
+     * 답변 등록 반영 (오늘의 질문에 대한 답변만 집계, 커밋 후 적용)
+     */
+    public void onAnswerCreated(String familyCode, Long questionId, Long userId, LocalDateTime answeredAt) {
+        FamilyDailyQuestionId key = todayKey(familyCode, questionId);
+        if (key == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            DayCounter counter = counterFor(key, questionId);
+            synchronized (lockFor(key)) {
+                // 삭제 반영으로 카운터가 교체됐을 수 있으므로 락 안에서 다시 조회
+                counters.getOrDefault(key, counter).add(userId, answeredAt);
+            }
+            dirtyKeys.add(key);
+        });
+    }
+    
+    /**
+     * 답변 삭제 반영 (커밋 후 적용)
+     */
+    public void onAnswerDeleted(String familyCode, Long questionId, Long userId) {
+        FamilyDailyQuestionId key = todayKey(familyCode, questionId);
+        if (key == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            // 락을 잡은 채 다시 계산해 그 사이 커밋된 등록이 교체 전 카운터에 반영되고 사라지지 않도록 함
+            synchronized (lockFor(key)) {
+                counters.put(key, loadTransaction.execute(status -> loadFromAnswers(key, questionId)));
+            }
+            dirtyKeys.add(key);
+        });
+    }
+    
+    /**
+     * 가족의 오늘 답변 현황 ("4명 중 3명 답변")
+     */
+    public Map<String, Object> getTodayStatus(String familyCode) {
+        Question todayQuestion = dailyQuestionService.getTodayQuestionForFamily(familyCode);
+        if (todayQuestion == null) {
+            throw new RuntimeException("오늘의 질문을 찾을 수 없습니다.");
+        }
+        LocalDate questionDate = dailyQuestionService.currentQuestionDate(familyCode);
+        FamilyDailyQuestionId key = new FamilyDailyQuestionId(familyCode, questionDate);
+        DayCounter counter = counterFor(key, todayQuestion.getId());
+        
+        Map<String, Object> response = new HashMap<>();
+        synchronized (lockFor(key)) {
+            response.put("answeredCount", counter.answeredUserIds.size());
+            response.put("answeredUserIds", new ArrayList<>(counter.answeredUserIds));
+            response.put("firstAnsweredAt", counter.firstAnsweredAt);
+            response.put("lastAnsweredAt", counter.lastAnsweredAt);
+        }
+        response.put("familyCode", familyCode);
+        response.put("questionDate", questionDate);
+        response.put("questionId", todayQuestion.getId());
+        response.put("memberCount", familyService.findActiveFamily(familyCode).map(Family::getMemberCount).orElse(0));
+        return response;
+    }
+    
+    /**
+     * 변경된 키의 현황을 answers 기준으로 family_day_stats에 일괄 저장하고 지난 날짜 카운터는 메모리에서 제거
+     */
+    @Scheduled(fixedDelayString = "${family-day-stats.flush-interval-ms:5000}")
+    @PreDestroy
+    public void flush() {
+        List<FamilyDailyQuestionId> flushedKeys = new ArrayList<>();
+        List<FamilyDayStatsJdbcRepository.Key> rows = new ArrayList<>();
+        for (Iterator<FamilyDailyQuestionId> iterator = dirtyKeys.iterator(); iterator.hasNext(); ) {
+            FamilyDailyQuestionId key = iterator.next();
+            iterator.remove();
+            DayCounter counter = counters.get(key);
+            if (counter == null) {
+                continue;
+            }
+            rows.add(new FamilyDayStatsJdbcRepository.Key(key.getFamilyCode(), key.getQuestionDate(), counter.questionId));
+            flushedKeys.add(key);
+        }
+        
+        try {
+            familyDayStatsJdbcRepository.batchRefresh(rows);
+        } catch (Exception e) {
+            dirtyKeys.addAll(flushedKeys); // 다음 주기에 다시 저장
+            System.err.println("❌ 가족 답변 현황 저장 실패: " + e.getMessage());
+            return;
+        }
+        
+        // 방금 저장한 키는 family_day_stats가 모든 인스턴스의 답변을 반영하므로 다음 조회 때 다시 읽음
+        LocalDate retainFrom = LocalDate.now(familyClock.getDefaultBucket().zoneId()).minusDays(RETAIN_DAYS);
+        long expiredBefore = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(expireAfterLoadMillis);
+        Set<FamilyDailyQuestionId> flushed = new HashSet<>(flushedKeys);
+        counters.entrySet().removeIf(entry -> !dirtyKeys.contains(entry.getKey())
+                && (flushed.contains(entry.getKey())
+                    || entry.getValue().loadedAtNanos - expiredBefore < 0
+                    || entry.getKey().getQuestionDate().isBefore(retainFrom)));
+    }
+    
+    // 오늘의 질문에 대한 답변이면 (가족 코드, 질문 날짜) 키 반환
+    private FamilyDailyQuestionId todayKey(String familyCode, Long questionId) {
+        if (familyCode == null) {
+            return null;
+        }
+        Question todayQuestion = dailyQuestionService.getTodayQuestionForFamily(familyCode);
+        if (todayQuestion == null || !todayQuestion.getId().equals(questionId)) {
+            return null;
+        }
+        return new FamilyDailyQuestionId(familyCode, dailyQuestionService.currentQuestionDate(familyCode));
+    }
+    
+    private DayCounter counterFor(FamilyDailyQuestionId key, Long questionId) {
+        DayCounter counter = counters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        DayCounter loaded = loadTransaction.execute(status -> load(key, questionId));
+        DayCounter existing = counters.putIfAbsent(key, loaded);
+        return existing != null ? existing : loaded;
+    }
+    
+    // 저장된 현황이 있으면 그대로 복원, 없으면 answers에서 재계산
+    private DayCounter load(FamilyDailyQuestionId key, Long questionId) {
+        return familyDayStatsJdbcRepository.find(key.getFamilyCode(), key.getQuestionDate())
+                .filter(row -> questionId.equals(row.questionId()))
+                .map(DayCounter::fromRow)
+                .orElseGet(() -> loadFromAnswers(key, questionId));
+    }
+    
+    // answers에서 해당 가족의 질문 답변으로 카운터 재계산
+    private DayCounter loadFromAnswers(FamilyDailyQuestionId key, Long questionId) {
+        DayCounter counter = new DayCounter(questionId);
+        answerRepository.findByFamilyCodeAndQuestionId(key.getFamilyCode(), questionId).stream()
+                .sorted((a1, a2) -> a1.getCreatedAt().compareTo(a2.getCreatedAt()))
+                .forEach((Answer answer) -> counter.add(answer.getUser().getId(), answer.getCreatedAt()));
+        return counter;
+    }
+    
+    private Object lockFor(FamilyDailyQuestionId key) {
+        return locks[Math.floorMod(key.hashCode(), LOCK_STRIPES)];
+    }
+    
+    // 답변한 구성원 id (답변 순)와 첫/마지막 답변 시각. 락 스트라이프 안에서만 변경
+    private static final class DayCounter {
+        private final Long questionId;
+        private final long loadedAtNanos = System.nanoTime();
+        private final LinkedHashSet<Long> answeredUserIds = new LinkedHashSet<>();
+        private LocalDateTime firstAnsweredAt;
+        private LocalDateTime lastAnsweredAt;
+        
+        private DayCounter(Long questionId) {
+            this.questionId = questionId;
+        }
+        
+        private static DayCounter fromRow(FamilyDayStatsJdbcRepository.Row row) {
+            DayCounter counter = new DayCounter(row.questionId());
+            if (row.answeredUserIds() != null && !row.answeredUserIds().isBlank()) {
+                for (String userId : row.answeredUserIds().split(",")) {
+                    counter.answeredUserIds.add(Long.valueOf(userId.trim()));
+                }
+            }
+            counter.firstAnsweredAt = row.firstAnsweredAt();
+            counter.lastAnsweredAt = row.lastAnsweredAt();
+            return counter;
+        }
+        
+        private void add(Long userId, LocalDateTime answeredAt) {
+            if (!answeredUserIds.add(userId)) {
+                return;
+            }
+            if (firstAnsweredAt == null || answeredAt.isBefore(firstAnsweredAt)) {
+                firstAnsweredAt = answeredAt;
+            }
+            if (lastAnsweredAt == null || answeredAt.isAfter(lastAnsweredAt)) {
+                lastAnsweredAt = answeredAt;
+            }
+        }
+    }
+}
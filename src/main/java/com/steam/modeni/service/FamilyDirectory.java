@@ -0,0 +1,119 @@
+package com.steam.modeni.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.steam.modeni.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 가족 구성원 캐시 (familyCode -> 구성원 id, userId -> familyCode)
+ * - 크기 제한 캐시로 가족 단위 권한 확인을 DB 조회 없이 처리
+ * - 가입/가족 이동/정보 수정/탈퇴/가져오기 시 즉시 + 커밋 후 두 번 무효화
+ *   (트랜잭션 진행 중 다른 요청이 이전 값을 다시 읽어 캐시해도 커밋 후 제거됨)
+ * - 무효화는 이 인스턴스에만 적용되므로, 다른 인스턴스의 변경은 저장 후 일정 시간이 지나면 만료되어 반영
+ */
+@Component
+public class FamilyDirectory {
+    
+    private final UserRepository userRepository;
+    private final LoadingCache<String, Set<Long>> membersByFamily;
+    private final LoadingCache<Long, String> familyByUser;
+    
+    @Autowired
+    public FamilyDirectory(UserRepository userRepository,
+                           @Value("${family-directory.max-families:10000}") long maxFamilies,
+                           @Value("${family-directory.max-users:50000}") long maxUsers,
+                           @Value("${family-directory.expire-after-write-ms:30000}") long expireAfterWriteMillis) {
+        this(userRepository, maxFamilies, maxUsers, expireAfterWriteMillis, Ticker.systemTicker());
+    }
+    
+    FamilyDirectory(UserRepository userRepository, long maxFamilies, long maxUsers, long expireAfterWriteMillis,
+                    Ticker ticker) {
+        this.userRepository = userRepository;
+        this.membersByFamily = Caffeine.newBuilder()
+                .maximumSize(maxFamilies)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMillis))
+                .ticker(ticker)
+                .recordStats()
+                .build(familyCode -> Set.copyOf(userRepository.findIdsByFamilyCode(familyCode)));
+        // 존재하지 않거나 가족이 없는 사용자는 로더가 null을 반환하므로 캐시되지 않음
+        this.familyByUser = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMillis))
+                .ticker(ticker)
+                .recordStats()
+                .build(userId -> userRepository.findFamilyCodeById(userId).orElse(null));
+    }
+    
+    /**
+     * 가족 구성원 id 목록
+     */
+    public Set<Long> membersOf(String familyCode) {
+        if (familyCode == null) {
+            return Set.of();
+        }
+        return membersByFamily.get(familyCode);
+    }
+    
+    /**
+     * 사용자의 가족 코드
+     */
+    public Optional<String> familyOf(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(familyByUser.get(userId));
+    }
+    
+    /**
+     * 사용자가 해당 가족의 구성원인지 확인
+     */
+    public boolean isMember(Long userId, String familyCode) {
+        return familyCode != null && familyCode.equals(familyOf(userId).orElse(null));
+    }
+    
+    /**
+     * 사용자의 가족이 바뀌거나 정보가 변경되었을 때 (관련된 가족 코드를 함께 전달)
+     */
+    public void invalidateUser(Long userId, String... familyCodes) {
+        Runnable invalidation = () -> {
+            if (userId != null) {
+                familyByUser.invalidate(userId);
+            }
+            membersByFamily.invalidateAll(Arrays.stream(familyCodes).filter(Objects::nonNull).toList());
+        };
+        invalidation.run();
+        AfterCommit.run(invalidation);
+    }
+    
+    /**
+     * 여러 가족의 구성원이 바뀌었을 때 (일괄 가져오기 등)
+     */
+    public void invalidateFamilies(Collection<String> familyCodes) {
+        Runnable invalidation = () -> membersByFamily.invalidateAll(
+                familyCodes.stream().filter(Objects::nonNull).toList());
+        invalidation.run();
+        AfterCommit.run(invalidation);
+    }
+    
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("families", membersByFamily.estimatedSize());
+        stats.put("familyHitRate", membersByFamily.stats().hitRate());
+        stats.put("users", familyByUser.estimatedSize());
+        stats.put("userHitRate", familyByUser.stats().hitRate());
+        return stats;
+    }
+}
@@ -0,0 +1,163 @@
+package com.steam.modeni.service;
+
+import com.steam.modeni.domain.entity.Family;
+import com.steam.modeni.repository.FamilyJdbcRepository;
+import com.steam.modeni.repository.FamilyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class FamilyService {
+    
+    private final FamilyRepository familyRepository;
+    private final FamilyJdbcRepository familyJdbcRepository;
+    private final FamilyClock familyClock;
+    private final QuestionRolloverScheduler questionRolloverScheduler;
+    
+    /**
+     * 가족의 질문 교체 시간대/시각 조회
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getSchedule(String familyCode) {
+        return toScheduleResponse(familyCode, familyClock.bucketOf(familyCode));
+    }
+    
+    /**
+     * 가족의 질문 교체 시간대/시각 변경
+     */
+    public Map<String, Object> updateSchedule(String familyCode, String timeZone, String rolloverTime) {
+        Family family = findActiveFamily(familyCode)
+                .orElseThrow(() -> new RuntimeException("해당 가족을 찾을 수 없습니다."));
+        
+        ZoneId zoneId;
+        LocalTime time;
+        try {
+            zoneId = ZoneId.of(timeZone);
+        } catch (DateTimeException e) {
+            throw new RuntimeException("올바르지 않은 시간대입니다: " + timeZone);
+        }
+        try {
+            time = LocalTime.parse(rolloverTime);
+        } catch (DateTimeParseException e) {
+            throw new RuntimeException("질문 교체 시각은 HH:mm 형식이어야 합니다.");
+        }
+        
+        family.setTimeZone(zoneId.getId());
+        family.setRolloverTime(time);
+        familyRepository.save(family);
+        
+        // 커밋 이후 메모리 설정과 타이머 휠에 반영
+        FamilyClock.Bucket bucket = new FamilyClock.Bucket(zoneId, time);
+        AfterCommit.run(() -> {
+            familyClock.setBucket(familyCode, bucket);
+            questionRolloverScheduler.register(bucket);
+        });
+        
+        System.out.println("🕘 가족 " + familyCode + "의 질문 교체 시각이 변경되었습니다: " + zoneId + " " + time);
+        return toScheduleResponse(familyCode, bucket);
+    }
+    
+    /**
+     * 구성원이 있는 가족 조회 (기본 키 한 행 조회)
+     */
+    @Transactional(readOnly = true)
+    public Optional<Family> findActiveFamily(String familyCode) {
+        if (familyCode == null) {
+            return Optional.empty();
+        }
+        return familyRepository.findById(familyCode).filter(family -> family.getMemberCount() > 0);
+    }
+    
+    /**
+     * 가족의 기준 구성원(가장 먼저 가입한 사용자) id
+     */
+    @Transactional(readOnly = true)
+    public Long getAnchorUserId(String familyCode) {
+        return findActiveFamily(familyCode)
+                .map(Family::getAnchorUserId)
+                .orElseThrow(() -> new RuntimeException("해당 가족을 찾을 수 없습니다."));
+    }
+    
+    /**
+     * 구성원 변경 전에 관련 가족 행을 가족 코드 순서로 잠금 (없으면 기본 설정으로 생성)
+     * 사용자 행보다 families 행을 항상 먼저 잠가, 같은 가족에 동시 가입/이동해도 교착 상태 없이 차례로 처리
+     * 트랜잭션 안에서 사용자 변경보다 먼저 호출해야 함
+     */
+    public void lockMembership(Collection<String> familyCodes) {
+        Set<String> codes = distinctCodes(familyCodes);
+        if (codes.isEmpty()) {
+            return;
+        }
+        insertMissing(codes);
+        familyJdbcRepository.lockForUpdate(codes);
+    }
+    
+    /**
+     * 가입/가족 이동/탈퇴/가져오기 후 가족 행 생성 및 구성원 수/기준 구성원 재계산
+     * 사용자 변경이 DB에 반영된 뒤(같은 트랜잭션 안에서 flush 이후) 호출해야 함
+     */
+    public void refreshMembership(Collection<String> familyCodes) {
+        Set<String> codes = distinctCodes(familyCodes);
+        if (codes.isEmpty()) {
+            return;
+        }
+        insertMissing(codes);
+        familyJdbcRepository.refreshMembers(codes);
+    }
+    
+    private void insertMissing(Set<String> codes) {
+        FamilyClock.Bucket defaultBucket = familyClock.getDefaultBucket();
+        familyJdbcRepository.insertSkippingExisting(codes, defaultBucket.zoneId().getId(), defaultBucket.rolloverTime(), 
+                LocalDateTime.now());
+    }
+    
+    // null 제외, 잠금 순서를 맞추기 위해 정렬
+    private static Set<String> distinctCodes(Collection<String> familyCodes) {
+        Set<String> codes = new TreeSet<>();
+        for (String familyCode : familyCodes) {
+            if (familyCode != null) {
+                codes.add(familyCode);
+            }
+        }
+        return codes;
+    }
+    
+    /**
+     * 시작 시 families 행이 없는 기존 가족을 사용자 데이터로 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillFamilies() {
+        FamilyClock.Bucket defaultBucket = familyClock.getDefaultBucket();
+        int created = familyJdbcRepository.backfill(defaultBucket.zoneId().getId(), defaultBucket.rolloverTime());
+        if (created > 0) {
+            System.out.println("👪 기존 사용자 데이터로 가족 " + created + "개를 생성했습니다.");
+        }
+    }
+    
+    private Map<String, Object> toScheduleResponse(String familyCode, FamilyClock.Bucket bucket) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("familyCode", familyCode);
+        response.put("timeZone", bucket.zoneId().getId());
+        response.put("rolloverTime", bucket.rolloverTime().toString());
+        response.put("currentQuestionDate", bucket.questionDateAt(Instant.now()));
+        return response;
+    }
+}
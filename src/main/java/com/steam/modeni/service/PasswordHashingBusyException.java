@@ -0,0 +1,11 @@
+package com.steam.modeni.service;
+
+/**
+ * 비밀번호 해시 작업 대기열이 가득 차서 요청을 받을 수 없을 때 (503 응답)
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+    
+    public PasswordHashingBusyException() {
+        super("로그인 요청이 많아 잠시 후 다시 시도해주세요.");
+    }
+}
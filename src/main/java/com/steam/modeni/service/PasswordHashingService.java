@@ -0,0 +1,121 @@
+package com.steam.modeni.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * bcrypt 해시/검증 전용 스레드 풀
+ * - 요청 스레드(Tomcat)가 bcrypt 계산에 묶이지 않도록 크기와 대기열이 제한된 풀에서 실행
+ * - 대기열이 가득 차면 기다리지 않고 바로 PasswordHashingBusyException (503)
+ */
+@Service
+@RequiredArgsConstructor
+public class PasswordHashingService {
+    
+    private final PasswordEncoder passwordEncoder;
+    
+    @Value("${security.password-hashing.pool-size:4}")
+    private int poolSize;
+    
+    @Value("${security.password-hashing.queue-capacity:64}")
+    private int queueCapacity;
+    
+    @Value("${security.bcrypt.strength:10}")
+    private int strength;
+    
+    private ThreadPoolExecutor executor;
+    private final AtomicLong rejectedCount = new AtomicLong();
+    
+    /**
+     * 비밀번호 검증 결과 (설정된 작업 비용과 다른 해시였으면 새 해시를 함께 반환)
+     */
+    public record Verification(boolean matches, String rehashed) {
+    }
+    
+    @PostConstruct
+    void initExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    @PreDestroy
+    void shutdownExecutor() {
+        executor.shutdown();
+    }
+    
+    /**
+     * 비밀번호 해시 생성
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+    
+    /**
+     * 비밀번호 검증 (일치하고 작업 비용이 설정값과 다르면 같은 작업 안에서 재해시)
+     */
+    public CompletableFuture<Verification> verify(String rawPassword, String encodedPassword) {
+        return submit(() -> {
+            if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                return new Verification(false, null);
+            }
+            String rehashed = needsRehash(encodedPassword) ? passwordEncoder.encode(rawPassword) : null;
+            return new Verification(true, rehashed);
+        });
+    }
+    
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("strength", strength);
+        status.put("poolSize", poolSize);
+        status.put("activeCount", executor.getActiveCount());
+        status.put("queued", executor.getQueue().size());
+        status.put("queueCapacity", queueCapacity);
+        status.put("completedCount", executor.getCompletedTaskCount());
+        status.put("rejectedCount", rejectedCount.get());
+        return status;
+    }
+    
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            return CompletableFuture.failedFuture(new PasswordHashingBusyException());
+        }
+    }
+    
+    // bcrypt 해시 형식: $2a$10$... (두 자리 작업 비용)
+    private boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+        try {
+            int cost = Integer.parseInt(encodedPassword.substring(4, 6));
+            return cost != strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -17,6 +17,7 @@ import java.util.List;
 public class QuestionInitService implements ApplicationRunner {
     
     private final QuestionRepository questionRepository;
+    private final SystemQuestionCatalog systemQuestionCatalog;
     
     private static final List<String> INITIAL_QUESTIONS = Arrays.asList(
         "우리 가족의 숨겨진 재능은 무엇이라고 생각하나요?",
@@ -35,6 +36,7 @@ public class QuestionInitService implements ApplicationRunner {
     @Override
     public void run(ApplicationArguments args) throws Exception {
         initializeQuestions();
+        systemQuestionCatalog.reload();
     }
     
     /**
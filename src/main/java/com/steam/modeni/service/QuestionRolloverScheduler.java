@@ -0,0 +1,152 @@
+package com.steam.modeni.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시간대 버킷별 질문 교체 스케줄러 (1분 단위 타이머 휠)
+ * - 버킷(시간대 + 교체 시각)마다 다음 교체 직전 시각을 휠 슬롯에 등록
+ * - 매 분 현재 슬롯만 확인하여 해당 버킷 가족들의 새 질문을 캐시에 미리 적재
+ * - 가족마다 교체 시각이 달라 적재 부하가 하루 전체에 분산됨
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionRolloverScheduler {
+    
+    private static final int WHEEL_SLOTS = 24 * 60; // 하루를 1분 단위로 나눈 슬롯
+    private static final Duration PRELOAD_LEAD = Duration.ofMinutes(1); // 교체 1분 전에 적재
+    
+    private final FamilyClock familyClock;
+    private final DailyQuestionService dailyQuestionService;
+    
+    private final List<Set<FamilyClock.Bucket>> wheel = new ArrayList<>(WHEEL_SLOTS);
+    // 버킷 -> 다음 실행 시각 (epoch minute). 같은 슬롯이라도 날짜가 다른 경우를 구분하기 위함
+    private final Map<FamilyClock.Bucket, Long> dueMinutes = new ConcurrentHashMap<>();
+    private long lastTickMinute;
+    
+    @PostConstruct
+    void initWheel() {
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel.add(ConcurrentHashMap.newKeySet());
+        }
+        lastTickMinute = currentEpochMinute();
+        familyClock.buckets().forEach(this::register);
+    }
+    
+    /**
+     * 버킷을 휠에 등록 (이미 등록된 버킷은 무시)
+     */
+    public synchronized void register(FamilyClock.Bucket bucket) {
+        if (dueMinutes.containsKey(bucket)) {
+            return;
+        }
+        schedule(bucket, Instant.now());
+    }
+    
+    /**
+     * 매 분 현재 슬롯의 버킷 실행 (지연된 경우 밀린 슬롯까지 순서대로 처리)
+     * 다른 인스턴스에서 설정한 버킷도 FamilyClock 재로드 후 여기서 등록됨
+     */
+    @Scheduled(cron = "0 * * * * *")
+    public synchronized void tick() {
+        familyClock.buckets().forEach(this::register);
+        long nowMinute = currentEpochMinute();
+        long fromMinute = Math.max(lastTickMinute + 1, nowMinute - WHEEL_SLOTS + 1);
+        
+        for (long minute = fromMinute; minute <= nowMinute; minute++) {
+            Set<FamilyClock.Bucket> slot = wheel.get((int) Math.floorMod(minute, WHEEL_SLOTS));
+            for (FamilyClock.Bucket bucket : slot) {
+                Long dueMinute = dueMinutes.get(bucket);
+                if (dueMinute == null || dueMinute > minute) {
+                    continue; // 다음 날 이후 실행 예정
+                }
+                slot.remove(bucket);
+                fire(bucket, minute);
+                schedule(bucket, Instant.ofEpochSecond(minute * 60).plus(PRELOAD_LEAD));
+            }
+        }
+        lastTickMinute = nowMinute;
+    }
+    
+    /**
+     * 휠 상태 조회
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("bucketCount", dueMinutes.size());
+        response.put("nextRollovers", dueMinutes.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .map(entry -> Map.of(
+                        "timeZone", entry.getKey().zoneId().getId(),
+                        "rolloverTime", entry.getKey().rolloverTime().toString(),
+                        "preloadAt", Instant.ofEpochSecond(entry.getValue() * 60).toString()))
+                .toList());
+        return response;
+    }
+    
+    private void fire(FamilyClock.Bucket bucket, long minute) {
+        // 교체 시각 기준으로 새로 노출될 질문 날짜
+        LocalDate nextDate = bucket.questionDateAt(Instant.ofEpochSecond(minute * 60).plus(PRELOAD_LEAD));
+        Collection<String> familyCodes = familyCodesIn(bucket);
+        if (familyCodes.isEmpty()) {
+            return;
+        }
+        
+        try {
+            int loaded = dailyQuestionService.preloadQuestions(familyCodes, nextDate);
+            System.out.println("⏰ [" + bucket.zoneId() + " " + bucket.rolloverTime() + "] " + nextDate 
+                             + " 질문이 미리 적재되었습니다. (가족 " + loaded + "개)");
+        } catch (Exception e) {
+            // 적재 실패 시 첫 조회에서 로딩되므로 다음 버킷 처리는 계속 진행
+            System.err.println("❌ 질문 미리 적재 실패 [" + bucket.zoneId() + "]: " + e.getMessage());
+        }
+    }
+    
+    // 기본 버킷은 가족 목록을 따로 두지 않으므로 캐시에 올라온 가족 중 기본 설정인 가족을 대상으로 함
+    private Collection<String> familyCodesIn(FamilyClock.Bucket bucket) {
+        if (bucket.equals(familyClock.getDefaultBucket())) {
+            return dailyQuestionService.getCachedFamilyCodes().stream()
+                    .filter(familyCode -> familyClock.bucketOf(familyCode).equals(bucket))
+                    .toList();
+        }
+        return familyClock.customFamiliesIn(bucket);
+    }
+    
+    private void schedule(FamilyClock.Bucket bucket, Instant after) {
+        long dueMinute = nextPreloadMinute(bucket, after);
+        dueMinutes.put(bucket, dueMinute);
+        wheel.get((int) Math.floorMod(dueMinute, WHEEL_SLOTS)).add(bucket);
+    }
+    
+    /**
+     * after 이후 첫 번째 적재 시각 (교체 시각 - 1분, 서머타임 전환일도 현지 시각 기준으로 계산)
+     */
+    static long nextPreloadMinute(FamilyClock.Bucket bucket, Instant after) {
+        LocalDate date = after.atZone(bucket.zoneId()).toLocalDate().minusDays(1);
+        while (true) {
+            ZonedDateTime preloadAt = date.atTime(bucket.rolloverTime()).atZone(bucket.zoneId()).minus(PRELOAD_LEAD);
+            if (preloadAt.toInstant().isAfter(after)) {
+                return Math.floorDiv(preloadAt.toEpochSecond(), 60);
+            }
+            date = date.plusDays(1);
+        }
+    }
+    
+    private static long currentEpochMinute() {
+        return Math.floorDiv(Instant.now().getEpochSecond(), 60);
+    }
+}
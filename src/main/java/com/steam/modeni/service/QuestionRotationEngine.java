@@ -0,0 +1,210 @@
+package com.steam.modeni.service;
+
+import com.steam.modeni.domain.entity.Question;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가족별 질문 순환 (한 바퀴 동안 같은 질문이 반복되지 않음)
+ * - 가족마다, 바퀴(cycle)마다 다른 키로 Feistel 셔플한 순열을 사용하므로 이력 조회 없이 계산
+ * - 바퀴의 길이는 그 바퀴가 시작한 날까지 생성된 질문 수이며, 중간에 추가된 질문은 다음 바퀴부터 포함
+ * - 순환은 설정한 시작일을 기준으로 하며, 첫 생성일에 있던 질문은 시작일부터 있던 것으로 봄
+ *   (create-drop 재시작마다 초기 질문의 생성일이 바뀌어도 같은 날짜에 같은 질문)
+ * - 질문 수가 같은 구간표를 스냅샷마다 한 번 만들고 날짜별로는 이진 탐색 (구간 수 = 질문이 추가된 날 수)
+ * - 순환 시작일 이전 날짜는 기존 시드 공식을 그대로 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionRotationEngine {
+    
+    private static final int FEISTEL_ROUNDS = 4;
+    
+    private final SystemQuestionCatalog systemQuestionCatalog;
+    
+    @Value("${question.rotation.start-date:}") // 비어 있으면 순환을 사용하지 않음
+    private String rotationStartDate;
+    
+    private long rotationStartDay = Long.MAX_VALUE;
+    
+    // 마지막으로 사용한 스냅샷의 구간표 (스냅샷이 바뀌면 다시 계산)
+    private volatile RotationTable table;
+    
+    @PostConstruct
+    void initStartDay() {
+        if (rotationStartDate != null && !rotationStartDate.isBlank()) {
+            rotationStartDay = LocalDate.parse(rotationStartDate.trim()).toEpochDay();
+        }
+    }
+    
+    /**
+     * 특정 가족의 특정 날짜 질문 선택
+     */
+    public Question pick(String familyCode, LocalDate questionDate) {
+        long day = questionDate.toEpochDay();
+        if (day < rotationStartDay) {
+            return systemQuestionCatalog.pick(familyCode, questionDate);
+        }
+        
+        SystemQuestionCatalog.Snapshot catalog = systemQuestionCatalog.snapshot();
+        return catalog.getInCreationOrder(rotationIndex(segmentsFor(catalog), familyCode.hashCode(), day));
+    }
+    
+    private Segment[] segmentsFor(SystemQuestionCatalog.Snapshot catalog) {
+        RotationTable current = table;
+        if (current == null || current.catalog() != catalog) {
+            current = new RotationTable(catalog, buildSegments(catalog, rotationStartDay));
+            table = current;
+        }
+        return current.segments();
+    }
+    
+    /**
+     * 순환 시작일부터 질문 수가 같은 구간으로 나눔 (구간은 바퀴 단위로 끝나며 질문 수는 구간마다 커짐)
+     */
+    static Segment[] buildSegments(SystemQuestionCatalog.Snapshot catalog, long epochDay) {
+        List<Segment> segments = new ArrayList<>();
+        long segmentStart = epochDay;
+        long cycle = 0;
+        while (true) {
+            long asOf = Math.max(segmentStart, catalog.firstCreationDay());
+            int size = catalog.sizeAsOf(asOf);
+            segments.add(new Segment(segmentStart, cycle, size));
+            
+            long nextChange = catalog.nextCreationDayAfter(asOf);
+            if (nextChange == Long.MAX_VALUE) {
+                return segments.toArray(new Segment[0]);
+            }
+            long cyclesInSegment = Math.floorDiv(nextChange - segmentStart + size - 1, size);
+            segmentStart += cyclesInSegment * size;
+            cycle += cyclesInSegment;
+        }
+    }
+    
+    /**
+     * 날짜가 속한 구간을 찾아 해당 날짜의 바퀴와 위치로 질문 인덱스 계산
+     */
+    static int rotationIndex(Segment[] segments, int familyHash, long day) {
+        int segmentIndex = segmentIndexOf(segments, day);
+        Segment segment = segments[segmentIndex];
+        long offset = day - segment.startDay();
+        long cycle = segment.firstCycle() + offset / segment.size();
+        int position = (int) (offset % segment.size());
+        return positionToIndex(familyHash, cycle, position, segment.size(),
+                lastIndexOfPreviousCycle(segments, segmentIndex, cycle, familyHash));
+    }
+    
+    private static int segmentIndexOf(Segment[] segments, long day) {
+        int low = 0;
+        int high = segments.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (segments[mid].startDay() <= day) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+    
+    // 바로 이전 바퀴의 마지막 질문 인덱스 (첫 바퀴면 -1)
+    private static int lastIndexOfPreviousCycle(Segment[] segments, int segmentIndex, long cycle, int familyHash) {
+        Segment segment = segments[segmentIndex];
+        if (cycle > segment.firstCycle()) {
+            return lastIndexOfCycle(segments, segmentIndex, cycle - 1, familyHash);
+        }
+        if (segmentIndex == 0) {
+            return -1;
+        }
+        return lastIndexOfCycle(segments, segmentIndex - 1, segment.firstCycle() - 1, familyHash);
+    }
+    
+    // 맞바꿈은 첫 두 자리만 바꾸므로 질문이 3개 이상이면 마지막 자리는 순열 그대로
+    // 2개면 첫 자리가 항상 이전 마지막과 달라 구간 첫 바퀴의 마지막이 계속 유지됨
+    // (질문 수는 구간마다 커지므로 2개 구간 앞은 1개 구간뿐이라 재귀는 두 단계를 넘지 않음)
+    private static int lastIndexOfCycle(Segment[] segments, int segmentIndex, long cycle, int familyHash) {
+        Segment segment = segments[segmentIndex];
+        int size = segment.size();
+        if (size <= 1) {
+            return 0;
+        }
+        if (size > 2) {
+            return permute(size - 1, size, cycleKey(familyHash, cycle));
+        }
+        return positionToIndex(familyHash, segment.firstCycle(), 1, size,
+                lastIndexOfPreviousCycle(segments, segmentIndex, segment.firstCycle(), familyHash));
+    }
+    
+    /**
+     * 바퀴 안의 위치를 질문 인덱스로 변환
+     * (이전 바퀴의 마지막 질문이 이번 바퀴의 첫 질문과 같으면 첫 두 자리를 맞바꿔 연속 중복 방지, 이전 바퀴가 없으면 -1)
+     */
+    static int positionToIndex(int familyHash, long cycle, int position, int size, int previousLast) {
+        long key = cycleKey(familyHash, cycle);
+        if (previousLast >= 0 && size > 1 && position < 2) {
+            int first = permute(0, size, key);
+            if (first == previousLast) {
+                return position == 0 ? permute(1, size, key) : first;
+            }
+        }
+        return permute(position, size, key);
+    }
+    
+    /**
+     * [0, size) 위의 키 기반 순열 (짝수 비트 Feistel 네트워크 + cycle-walking)
+     */
+    static int permute(int position, int size, long key) {
+        if (size <= 1) {
+            return 0;
+        }
+        int bits = 32 - Integer.numberOfLeadingZeros(size - 1);
+        if ((bits & 1) == 1) {
+            bits++;
+        }
+        int halfBits = bits / 2;
+        int halfMask = (1 << halfBits) - 1;
+        
+        int value = position;
+        do {
+            value = feistel(value, halfBits, halfMask, key);
+        } while (value >= size);
+        return value;
+    }
+    
+    private static int feistel(int value, int halfBits, int halfMask, long key) {
+        int left = value >>> halfBits;
+        int right = value & halfMask;
+        for (int round = 0; round < FEISTEL_ROUNDS; round++) {
+            int next = left ^ ((int) mix64(key + round * 0x9E3779B97F4A7C15L + right) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+    
+    private static long cycleKey(int familyHash, long cycle) {
+        return mix64(((long) familyHash << 32) ^ mix64(cycle));
+    }
+    
+    // SplitMix64 최종 혼합 함수
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    /**
+     * 순환 시작일(또는 이전 구간 끝)부터 질문 수가 같은 구간
+     */
+    record Segment(long startDay, long firstCycle, int size) {
+    }
+    
+    private record RotationTable(SystemQuestionCatalog.Snapshot catalog, Segment[] segments) {
+    }
+}
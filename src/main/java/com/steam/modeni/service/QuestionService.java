@@ -10,7 +10,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Random;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,6 +20,7 @@ public class QuestionService {
     private final QuestionRepository questionRepository;
     private final UserRepository userRepository;
     private final AnswerRepository answerRepository;
+    private final SystemQuestionCatalog systemQuestionCatalog;
     
     @Transactional(readOnly = true)
     public List<Question> getAllQuestions() {
@@ -58,15 +58,8 @@ public class QuestionService {
     
     @Transactional(readOnly = true)
     public Question getRandomQuestionForFamily(Long familyId) {
-        // 전체 질문 조회
-        List<Question> allQuestions = questionRepository.findAll();
-        if (allQuestions.isEmpty()) {
-            throw new RuntimeException("질문을 찾을 수 없습니다.");
-        }
-        
-        // 가족 ID 기반으로 랜덤 질문 선택
-        Random random = new Random(familyId);
-        return allQuestions.get(random.nextInt(allQuestions.size()));
+        // 가족 ID 기반으로 랜덤 질문 선택 (new Random(familyId) 와 동일한 결과)
+        return systemQuestionCatalog.pickBySeed(familyId);
     }
     
     private Question convertQuestionForFamily(Question question, String familyCode) {
@@ -0,0 +1,337 @@
+package com.steam.modeni.service;
+
+import com.steam.modeni.domain.enums.ReactionType;
+import com.steam.modeni.repository.ReactionCountJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 답변별/반응 종류별 반응 수 저장소
+ * - 답변 id별 카운터를 메모리에 두고 반응 등록/삭제 커밋 시 갱신 (답변 id 해시 기준 락 스트라이프)
+ * - 이 인스턴스에서 생긴 증감만 모아 주기적으로 reaction_counts에 더함 (write-behind, 여러 인스턴스가 함께 저장 가능)
+ * - 메모리에 없는 답변은 reaction_counts에서 한 번에 불러옴
+ * - 다른 인스턴스의 반응도 보이도록 저장을 마친 카운터와 오래 전에 불러온 카운터는 메모리에서 비움
+ * - reactions 원본과 주기적으로 대조하여 어긋난 집계를 바로잡음
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactionCountStore {
+    
+    private static final int LOCK_STRIPES = 64;
+    private static final ReactionType[] REACTION_TYPES = ReactionType.values();
+    
+    private final ReactionCountJdbcRepository reactionCountJdbcRepository;
+    
+    @Value("${reaction-counts.max-cached-answers:100000}")
+    private int maxCachedAnswers;
+    
+    @Value("${reaction-counts.reconcile-chunk-size:10000}")
+    private int reconcileChunkSize;
+    
+    @Value("${reaction-counts.expire-after-load-ms:30000}") // 변경 없는 카운터를 다시 읽는 주기
+    private long expireAfterLoadMillis;
+    
+    // 답변 id -> 반응 종류(ordinal)별 개수 / 아직 저장하지 않은 증감. 락 스트라이프 안에서만 읽고 씀
+    private final Map<Long, long[]> counters = new ConcurrentHashMap<>();
+    private final Map<Long, long[]> pendingDeltas = new ConcurrentHashMap<>();
+    private final Map<Long, Long> loadedAtNanos = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    
+    // 저장과 대조 결과 반영이 서로 끼어들지 않도록 (저장 중인 변경분이 있는 답변을 비우지 않음)
+    private final Object flushLock = new Object();
+    
+    private final AtomicBoolean reconciling = new AtomicBoolean(false);
+    private volatile Map<String, Object> lastReconcileStats = Map.of();
+    
+    @PostConstruct
+    void initLocks() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+    
+    /**
+     * 반응 추가 반영 (커밋 후 적용)
+     */
+    public void onReactionAdded(Long answerId, ReactionType reactionType) {
+        AfterCommit.run(() -> add(answerId, reactionType, 1));
+    }
+    
+    /**
+     * 반응 삭제 반영 (커밋 후 적용)
+     */
+    public void onReactionRemoved(Long answerId, ReactionType reactionType) {
+        AfterCommit.run(() -> add(answerId, reactionType, -1));
+    }
+    
+    /**
+     * 반응 종류 변경 반영 (커밋 후 이전 종류 -1, 새 종류 +1)
+     */
+    public void onReactionChanged(Long answerId, ReactionType previousType, ReactionType reactionType) {
+        if (previousType == reactionType) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            add(answerId, previousType, -1);
+            add(answerId, reactionType, 1);
+        });
+    }
+    
+    /**
+     * 답변별 반응 종류별 개수 (메모리에 없는 답변만 한 번의 쿼리로 불러옴)
+     */
+    public Map<Long, Map<ReactionType, Long>> getCounts(Collection<Long> answerIds) {
+        loadMissing(answerIds);
+        
+        Map<Long, Map<ReactionType, Long>> result = new LinkedHashMap<>();
+        for (Long answerId : answerIds) {
+            long[] counts;
+            synchronized (lockFor(answerId)) {
+                long[] counter = counters.get(answerId);
+                counts = counter != null ? counter.clone() : null;
+            }
+            if (counts == null) {
+                counts = loadCounter(answerId); // 불러온 직후 저장 주기에 비워진 경우
+            }
+            result.put(answerId, toMap(counts));
+        }
+        return result;
+    }
+    
+    /**
+     * 쌓인 증감을 reaction_counts에 일괄 반영하고, 방금 저장한 카운터와 오래된 카운터(캐시가 크면 전부)를 비움
+     * (증감은 저장에 성공한 뒤에만 버리고, 실패하면 그 사이 생긴 증감과 합쳐 다음 주기에 다시 저장)
+     */
+    @Scheduled(fixedDelayString = "${reaction-counts.flush-interval-ms:5000}")
+    @PreDestroy
+    public void flush() {
+        synchronized (flushLock) {
+            Map<Long, long[]> flushing = new HashMap<>();
+            List<ReactionCountJdbcRepository.Row> rows = new ArrayList<>();
+            for (Long answerId : new ArrayList<>(pendingDeltas.keySet())) {
+                long[] delta;
+                synchronized (lockFor(answerId)) {
+                    delta = pendingDeltas.remove(answerId);
+                }
+                if (delta == null) {
+                    continue;
+                }
+                flushing.put(answerId, delta);
+                for (ReactionType reactionType : REACTION_TYPES) {
+                    if (delta[reactionType.ordinal()] != 0) {
+                        rows.add(new ReactionCountJdbcRepository.Row(answerId, reactionType, delta[reactionType.ordinal()]));
+                    }
+                }
+            }
+            
+            try {
+                reactionCountJdbcRepository.batchAddDeltas(rows);
+            } catch (Exception e) {
+                flushing.forEach(this::restoreDelta); // 다음 주기에 다시 저장
+                System.err.println("❌ 반응 수 저장 실패: " + e.getMessage());
+                return;
+            }
+            
+            // 저장된 값에는 다른 인스턴스의 증감도 더해져 있으므로 다음 조회 때 다시 불러옴
+            boolean overCapacity = counters.size() > maxCachedAnswers;
+            long expiredBefore = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(expireAfterLoadMillis);
+            for (Long answerId : new ArrayList<>(counters.keySet())) {
+                Long loadedAt = loadedAtNanos.get(answerId);
+                if (overCapacity || flushing.containsKey(answerId) || loadedAt == null || loadedAt - expiredBefore < 0) {
+                    evictIfClean(answerId);
+                }
+            }
+        }
+    }
+    
+    @Scheduled(cron = "${reaction-counts.reconcile-cron:0 15 4 * * *}")
+    public void reconcileNightly() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            System.err.println("❌ 반응 수 대조 실패: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * reactions 원본을 answer_id 구간별로 다시 집계하여 reaction_counts와 다른 값을 바로잡음
+     */
+    public Map<String, Object> reconcile() {
+        if (!reconciling.compareAndSet(false, true)) {
+            throw new RuntimeException("반응 수 대조가 이미 진행 중입니다.");
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            flush(); // 메모리 변경분을 먼저 저장한 뒤 비교
+            
+            long maxAnswerId = reactionCountJdbcRepository.findMaxAnswerId();
+            int correctedAnswers = 0;
+            for (long fromId = 1; fromId <= maxAnswerId; fromId += reconcileChunkSize) {
+                long toId = Math.min(fromId + reconcileChunkSize - 1, maxAnswerId);
+                correctedAnswers += reconcileRange(fromId, toId);
+            }
+            
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("maxAnswerId", maxAnswerId);
+            stats.put("correctedAnswers", correctedAnswers);
+            stats.put("elapsedMs", System.currentTimeMillis() - startedAt);
+            lastReconcileStats = stats;
+            if (correctedAnswers > 0) {
+                System.out.println("🔧 반응 수 집계 " + correctedAnswers + "건을 바로잡았습니다.");
+            }
+            return stats;
+        } finally {
+            reconciling.set(false);
+        }
+    }
+    
+    public Map<String, Object> getStatus() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("cachedAnswers", counters.size());
+        response.put("dirtyAnswers", pendingDeltas.size());
+        response.put("reconciling", reconciling.get());
+        response.put("lastReconcile", lastReconcileStats);
+        return response;
+    }
+    
+    // 저장된 값을 읽은 뒤 바뀐 행은 건드리지 않음 (조건부 저장),
+    // 이 인스턴스에 아직 저장하지 않은 증감이 있는 답변은 이번 대조에서 건너뜀 (다음 대조에서 다시 확인)
+    private int reconcileRange(long fromId, long toId) {
+        Map<Long, long[]> stored = toCounterMap(reactionCountJdbcRepository.findInRange(fromId, toId));
+        Map<Long, long[]> actual = toCounterMap(reactionCountJdbcRepository.countReactionsInRange(fromId, toId));
+        
+        Set<Long> answerIds = new HashSet<>(actual.keySet());
+        answerIds.addAll(stored.keySet());
+        
+        synchronized (flushLock) {
+            List<ReactionCountJdbcRepository.Correction> corrections = new ArrayList<>();
+            List<Long> correctedIds = new ArrayList<>();
+            for (Long answerId : answerIds) {
+                long[] actualCounts = actual.getOrDefault(answerId, new long[REACTION_TYPES.length]);
+                long[] storedCounts = stored.getOrDefault(answerId, new long[REACTION_TYPES.length]);
+                if (Arrays.equals(actualCounts, storedCounts) || pendingDeltas.containsKey(answerId)) {
+                    continue;
+                }
+                for (ReactionType reactionType : REACTION_TYPES) {
+                    int ordinal = reactionType.ordinal();
+                    if (actualCounts[ordinal] != storedCounts[ordinal]) {
+                        corrections.add(new ReactionCountJdbcRepository.Correction(
+                                answerId, reactionType, storedCounts[ordinal], actualCounts[ordinal]));
+                    }
+                }
+                correctedIds.add(answerId);
+            }
+            
+            reactionCountJdbcRepository.batchCorrect(corrections);
+            // 고친 답변은 메모리에서 비워 다음 조회 시 저장된 값으로 다시 불러옴 (그 사이 변경된 답변은 유지)
+            correctedIds.forEach(this::evictIfClean);
+            return correctedIds.size();
+        }
+    }
+    
+    // 메모리에 없는 답변은 락 밖에서 먼저 불러오고, 그 사이 비워졌으면 다시 불러옴
+    private void add(Long answerId, ReactionType reactionType, int delta) {
+        long[] loaded = null;
+        while (true) {
+            if (loaded == null && !counters.containsKey(answerId)) {
+                loaded = loadCounter(answerId);
+            }
+            synchronized (lockFor(answerId)) {
+                long[] counter = counters.get(answerId);
+                if (counter == null) {
+                    if (loaded == null) {
+                        continue;
+                    }
+                    counter = loaded;
+                    counters.put(answerId, counter);
+                    loadedAtNanos.put(answerId, System.nanoTime());
+                }
+                int ordinal = reactionType.ordinal();
+                counter[ordinal] = Math.max(0, counter[ordinal] + delta);
+                pendingDeltas.computeIfAbsent(answerId, id -> new long[REACTION_TYPES.length])[ordinal] += delta;
+                return;
+            }
+        }
+    }
+    
+    // 저장에 실패한 증감을 그 사이 쌓인 증감과 합침
+    private void restoreDelta(Long answerId, long[] delta) {
+        synchronized (lockFor(answerId)) {
+            long[] pending = pendingDeltas.computeIfAbsent(answerId, id -> new long[REACTION_TYPES.length]);
+            for (int i = 0; i < pending.length; i++) {
+                pending[i] += delta[i];
+            }
+        }
+    }
+    
+    private long[] loadCounter(Long answerId) {
+        return toCounterMap(reactionCountJdbcRepository.findByAnswerIds(List.of(answerId)))
+                .getOrDefault(answerId, new long[REACTION_TYPES.length]);
+    }
+    
+    private void loadMissing(Collection<Long> answerIds) {
+        List<Long> missing = answerIds.stream()
+                .filter(answerId -> !counters.containsKey(answerId))
+                .distinct()
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        Map<Long, long[]> loaded = toCounterMap(reactionCountJdbcRepository.findByAnswerIds(missing));
+        for (Long answerId : missing) {
+            synchronized (lockFor(answerId)) {
+                if (counters.putIfAbsent(answerId, loaded.getOrDefault(answerId, new long[REACTION_TYPES.length])) == null) {
+                    loadedAtNanos.put(answerId, System.nanoTime());
+                }
+            }
+        }
+    }
+    
+    private void evictIfClean(Long answerId) {
+        synchronized (lockFor(answerId)) {
+            if (!pendingDeltas.containsKey(answerId)) {
+                counters.remove(answerId);
+                loadedAtNanos.remove(answerId);
+            }
+        }
+    }
+    
+    private Object lockFor(Long answerId) {
+        return locks[Math.floorMod(answerId.hashCode(), LOCK_STRIPES)];
+    }
+    
+    private static Map<Long, long[]> toCounterMap(List<ReactionCountJdbcRepository.Row> rows) {
+        Map<Long, long[]> counts = new HashMap<>();
+        for (ReactionCountJdbcRepository.Row row : rows) {
+            counts.computeIfAbsent(row.answerId(), id -> new long[REACTION_TYPES.length])
+                    [row.reactionType().ordinal()] = row.count();
+        }
+        return counts;
+    }
+    
+    private static Map<ReactionType, Long> toMap(long[] counts) {
+        Map<ReactionType, Long> result = new EnumMap<>(ReactionType.class);
+        for (ReactionType reactionType : REACTION_TYPES) {
+            result.put(reactionType, counts[reactionType.ordinal()]);
+        }
+        return result;
+    }
+}
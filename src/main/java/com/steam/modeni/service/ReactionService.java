@@ -4,14 +4,20 @@ import com.steam.modeni.domain.entity.Answer;
 import com.steam.modeni.domain.entity.Reaction;
 import com.steam.modeni.domain.entity.User;
 import com.steam.modeni.domain.enums.ReactionType;
+import com.steam.modeni.dto.ReactionResponse;
 import com.steam.modeni.repository.AnswerRepository;
+import com.steam.modeni.repository.ReactionJdbcRepository;
 import com.steam.modeni.repository.ReactionRepository;
 import com.steam.modeni.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -24,45 +30,66 @@ public class ReactionService {
     private final ReactionRepository reactionRepository;
     private final AnswerRepository answerRepository;
     private final UserRepository userRepository;
+    private final ReactionJdbcRepository reactionJdbcRepository;
+    private final ReactionCountStore reactionCountStore;
     
-    public Map<String, Object> createReaction(Long answerId, Long userId, String reactionType) {
-        Answer answer = answerRepository.findById(answerId)
-                .orElseThrow(() -> new RuntimeException("답변을 찾을 수 없습니다."));
+    /**
+     * 반응 등록 (같은 가족의 다른 구성원 답변만 가능, 확인과 저장을 한 문장으로 처리)
+     * - 기본: 이미 반응했으면 종류만 변경
+     * - toggle: 같은 종류로 이미 반응했으면 반응 취소
+     * - 종류 변경 시 반응 수를 증감으로 반영하기 위해 기존 종류를 잠그고 읽음
+     *   (READ COMMITTED라 반응이 없을 때 간격 잠금을 잡지 않음)
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public Map<String, Object> createReaction(Long answerId, Long userId, String reactionType, boolean toggle) {
+        ReactionType type = ReactionType.valueOf(reactionType.toUpperCase());
         
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        // 자신의 답변에는 반응할 수 없음
-        if (answer.getUser().getId().equals(userId)) {
-            throw new RuntimeException("자신의 답변에는 반응할 수 없습니다.");
+        Map<String, Object> response = new HashMap<>();
+        if (toggle && reactionJdbcRepository.deleteIfSameType(answerId, userId, type)) {
+            reactionCountStore.onReactionRemoved(answerId, type);
+            response.put("status", "REMOVED");
+            response.put("reaction_type", type);
+            response.put("message", "반응이 취소되었습니다.");
+            return response;
         }
         
-        // 같은 가족 구성원인지 확인
-        if (!answer.getUser().getFamilyCode().equals(user.getFamilyCode())) {
-            throw new RuntimeException("같은 가족 구성원만 공감할 수 있습니다.");
+        Optional<ReactionType> previousType = reactionJdbcRepository.lockReactionType(answerId, userId);
+        ReactionJdbcRepository.UpsertResult result = reactionJdbcRepository.upsert(answerId, userId, type);
+        switch (result.status()) {
+            case REJECTED -> throw rejectedReactionError(answerId, userId);
+            case CREATED -> reactionCountStore.onReactionAdded(answerId, type);
+            // 같은 사용자가 동시에 처음 반응한 드문 경우에는 이전 종류를 알 수 없으므로 대조에서 바로잡음
+            case UPDATED -> previousType.ifPresent(previous ->
+                    reactionCountStore.onReactionChanged(answerId, previous, type));
         }
         
-        // 이미 반응한 경우 기존 반응 삭제
-        Optional<Reaction> existingReaction = reactionRepository.findByAnswerAndUser(answer, user);
-        if (existingReaction.isPresent()) {
-            reactionRepository.delete(existingReaction.get());
+        response.put("id", result.reactionId());
+        response.put("status", result.status().name());
+        response.put("reaction_type", type);
+        if (result.status() == ReactionJdbcRepository.UpsertStatus.CREATED) {
+            response.put("created_at", result.timestamp());
         }
-        
-        Reaction reaction = new Reaction();
-        reaction.setAnswer(answer);
-        reaction.setUser(user);
-        reaction.setReactionType(ReactionType.valueOf(reactionType.toUpperCase()));
-        
-        Reaction savedReaction = reactionRepository.save(reaction);
-        
-        Map<String, Object> response = new HashMap<>();
-        response.put("id", savedReaction.getId());
-        response.put("created_at", savedReaction.getCreatedAt());
         response.put("message", "반응이 성공적으로 등록되었습니다.");
         
         return response;
     }
     
+    // 반응이 저장되지 않은 경우에만 원인을 조회하여 기존과 같은 오류 메시지 반환
+    private RuntimeException rejectedReactionError(Long answerId, Long userId) {
+        Answer answer = answerRepository.findById(answerId).orElse(null);
+        if (answer == null) {
+            return new RuntimeException("답변을 찾을 수 없습니다.");
+        }
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            return new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+        if (answer.getUser().getId().equals(userId)) {
+            return new RuntimeException("자신의 답변에는 반응할 수 없습니다.");
+        }
+        return new RuntimeException("같은 가족 구성원만 공감할 수 있습니다.");
+    }
+    
     @Transactional(readOnly = true)
     public Reaction getReactionById(Long id) {
         return reactionRepository.findById(id)
@@ -74,17 +101,46 @@ public class ReactionService {
                 .orElseThrow(() -> new RuntimeException("공감을 찾을 수 없습니다."));
         
         reactionRepository.delete(reaction);
+        reactionCountStore.onReactionRemoved(reaction.getAnswer().getId(), reaction.getReactionType());
         
         Map<String, Object> response = new HashMap<>();
         response.put("message", "공감이 성공적으로 삭제되었습니다.");
         return response;
     }
     
+    /**
+     * 답변의 반응 종류별 개수 (메모리 집계)
+     */
+    public Map<ReactionType, Long> getReactionCounts(Long answerId) {
+        return reactionCountStore.getCounts(List.of(answerId)).get(answerId);
+    }
+    
     @Transactional(readOnly = true)
-    public List<Reaction> getReactionsByAnswer(Long answerId) {
-        Answer answer = answerRepository.findById(answerId)
-                .orElseThrow(() -> new RuntimeException("답변을 찾을 수 없습니다."));
+    public List<ReactionResponse> getReactionsByAnswer(Long answerId) {
+        if (!answerRepository.existsById(answerId)) {
+            throw new RuntimeException("답변을 찾을 수 없습니다.");
+        }
         
-        return reactionRepository.findByAnswerOrderByCreatedAtAsc(answer);
+        return reactionRepository.findResponsesByAnswerIds(List.of(answerId));
+    }
+    
+    /**
+     * 여러 답변의 반응을 답변 id별로 조회 (반응한 사용자 포함, 한 번의 쿼리)
+     * 요청한 모든 답변 id가 키로 포함되며 반응이 없으면 빈 목록
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<ReactionResponse>> getReactionsByAnswers(Collection<Long> answerIds) {
+        Map<Long, List<ReactionResponse>> reactionsByAnswer = new LinkedHashMap<>();
+        for (Long answerId : answerIds) {
+            reactionsByAnswer.put(answerId, new ArrayList<>());
+        }
+        if (reactionsByAnswer.isEmpty()) {
+            return reactionsByAnswer;
+        }
+        
+        for (ReactionResponse reaction : reactionRepository.findResponsesByAnswerIds(reactionsByAnswer.keySet())) {
+            reactionsByAnswer.get(reaction.getAnswerId()).add(reaction);
+        }
+        return reactionsByAnswer;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,210 @@
+package com.steam.modeni.service;
+
+import com.steam.modeni.domain.entity.Question;
+import com.steam.modeni.repository.QuestionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * 시스템 질문(familyCode = "SYSTEM")의 불변 메모리 스냅샷
+ * - 질문 선택 시 DB 조회와 Random 객체 생성 없이 배열 인덱스만 계산
+ * - 질문이 바뀌면 새 배열을 만들어 참조를 한 번에 교체
+ */
+@Component
+@RequiredArgsConstructor
+public class SystemQuestionCatalog {
+    
+    public static final String SYSTEM_FAMILY_CODE = "SYSTEM";
+    
+    // java.util.Random 의 선형 합동 생성기 상수
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+    
+    private final QuestionRepository questionRepository;
+    
+    private volatile Snapshot snapshot = new Snapshot(new Question[0]);
+    
+    /**
+     * DB에서 시스템 질문을 다시 읽어 스냅샷 교체 (id 순 정렬)
+     */
+    public synchronized void reload() {
+        List<Question> systemQuestions = questionRepository.findByFamilyCode(SYSTEM_FAMILY_CODE);
+        Question[] questions = systemQuestions.stream()
+                .sorted(Comparator.comparing(Question::getId))
+                .map(SystemQuestionCatalog::copyOf)
+                .toArray(Question[]::new);
+        snapshot = new Snapshot(questions);
+    }
+    
+    /**
+     * 시스템 질문이 추가/삭제되었으면 스냅샷 다시 적재
+     */
+    @Scheduled(fixedDelayString = "${question.catalog.refresh-interval-ms:60000}")
+    public void reloadIfChanged() {
+        Snapshot current = snapshot;
+        long count = questionRepository.countByFamilyCode(SYSTEM_FAMILY_CODE);
+        Long maxId = questionRepository.findMaxIdByFamilyCode(SYSTEM_FAMILY_CODE);
+        if (count != current.size() || !Objects.equals(maxId, current.maxId)) {
+            reload();
+        }
+    }
+    
+    public int size() {
+        Snapshot current = snapshot;
+        if (current.size() == 0) {
+            reload();
+            current = snapshot;
+        }
+        return current.size();
+    }
+    
+    /**
+     * 가족 코드와 날짜로 질문 선택 (기존 시드 공식과 동일한 결과)
+     */
+    public Question pick(String familyCode, LocalDate questionDate) {
+        return pickBySeed(Math.abs(familyCode.hashCode()) * 1000L + questionDate.toEpochDay());
+    }
+    
+    /**
+     * new Random(seed).nextInt(size) 와 동일한 인덱스의 질문 선택
+     */
+    public Question pickBySeed(long seed) {
+        Question[] questions = currentQuestions();
+        return questions[nextIntForSeed(seed, questions.length)];
+    }
+    
+    /**
+     * 현재 스냅샷 (여러 값을 함께 읽을 때 같은 스냅샷을 보도록 사용)
+     */
+    public Snapshot snapshot() {
+        return currentSnapshot();
+    }
+    
+    // 아직 적재되지 않았다면 (초기 데이터 저장 전 호출 등) 한 번 적재
+    private Question[] currentQuestions() {
+        return currentSnapshot().questions;
+    }
+    
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current.size() == 0) {
+            reload();
+            current = snapshot;
+        }
+        if (current.size() == 0) {
+            throw new RuntimeException("시스템 질문을 찾을 수 없습니다.");
+        }
+        return current;
+    }
+    
+    /**
+     * new Random(seed).nextInt(bound) 의 첫 결과를 객체 생성 없이 계산
+     */
+    static int nextIntForSeed(long seed, int bound) {
+        long state = (seed ^ MULTIPLIER) & MASK;
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        int r = (int) (state >>> 17);
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return (int) ((bound * (long) r) >> 31);
+        }
+        for (int u = r; u - (r = u % bound) + m < 0; ) {
+            state = (state * MULTIPLIER + ADDEND) & MASK;
+            u = (int) (state >>> 17);
+        }
+        return r;
+    }
+    
+    private static Question copyOf(Question question) {
+        Question copy = new Question();
+        copy.setId(question.getId());
+        copy.setContent(question.getContent());
+        copy.setFamilyCode(question.getFamilyCode());
+        copy.setCreatedAt(question.getCreatedAt());
+        return copy;
+    }
+    
+    /**
+     * 불변 스냅샷
+     * - questions: id 순 (기존 시드 공식과 동일한 인덱스)
+     * - creationOrder / creationDays: (생성일, id) 순으로 정렬한 questions 인덱스와 그 생성일
+     */
+    public static final class Snapshot {
+        
+        private final Question[] questions;
+        private final Long maxId;
+        private final int[] creationOrder;
+        private final long[] creationDays;
+        
+        private Snapshot(Question[] questions) {
+            this.questions = questions;
+            this.maxId = questions.length > 0 ? questions[questions.length - 1].getId() : null;
+            
+            long[] days = new long[questions.length];
+            for (int i = 0; i < questions.length; i++) {
+                days[i] = questions[i].getCreatedAt() != null 
+                        ? questions[i].getCreatedAt().toLocalDate().toEpochDay() : 0L;
+            }
+            this.creationOrder = IntStream.range(0, questions.length).boxed()
+                    .sorted(Comparator.<Integer>comparingLong(i -> days[i]).thenComparingInt(i -> i))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            this.creationDays = new long[questions.length];
+            for (int i = 0; i < creationOrder.length; i++) {
+                creationDays[i] = days[creationOrder[i]];
+            }
+        }
+        
+        public int size() {
+            return questions.length;
+        }
+        
+        /**
+         * 특정 날짜(epoch day)까지 생성되어 있던 질문 수
+         */
+        public int sizeAsOf(long epochDay) {
+            int low = 0;
+            int high = creationDays.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (creationDays[mid] <= epochDay) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+        
+        /**
+         * 특정 날짜(epoch day) 이후 처음으로 질문이 추가된 날짜 (없으면 Long.MAX_VALUE)
+         */
+        public long nextCreationDayAfter(long epochDay) {
+            int index = sizeAsOf(epochDay);
+            return index < creationDays.length ? creationDays[index] : Long.MAX_VALUE;
+        }
+        
+        /**
+         * 가장 먼저 생성된 질문의 날짜 (epoch day)
+         */
+        public long firstCreationDay() {
+            return creationDays[0];
+        }
+        
+        /**
+         * 생성 순서(생성일, id)로 정렬했을 때 index 번째 질문
+         * - 앞에서부터 sizeAsOf(day) 개가 해당 날짜까지 존재하던 질문
+         */
+        public Question getInCreationOrder(int index) {
+            return questions[creationOrder[index]];
+        }
+    }
+}
@@ -1,29 +1,60 @@
 package com.steam.modeni.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.steam.modeni.domain.entity.Question;
 import com.steam.modeni.domain.entity.User;
 import com.steam.modeni.domain.entity.UserDailyQuestion;
-import com.steam.modeni.repository.QuestionRepository;
+import com.steam.modeni.dto.UserDailyQuestionResponse;
+import com.steam.modeni.repository.UserDailyQuestionJdbcRepository;
 import com.steam.modeni.repository.UserDailyQuestionRepository;
 import com.steam.modeni.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class UserDailyQuestionService {
     
+    private static final int MAX_HISTORY_PAGE_SIZE = 365;
+    
     private final UserDailyQuestionRepository userDailyQuestionRepository;
     private final UserRepository userRepository;
-    private final QuestionRepository questionRepository;
+    private final FamilyDailyQuestionService familyDailyQuestionService;
+    private final UserDailyQuestionJdbcRepository userDailyQuestionJdbcRepository;
+    private final FamilyClock familyClock;
+    private final FamilyService familyService;
+    
+    @Value("${daily-question.filled-mark.max-size:50000}")
+    private long filledMarkMaxSize;
+    
+    // 사용자별로 누락 질문을 모두 채운 마지막 날짜 (high-water mark, 가족 시간대 기준)
+    // 크기 제한 + 만료로 탈퇴했거나 오래 접속하지 않은 사용자는 비워지고, 비워지면 DB에서 다시 확인
+    private Cache<Long, FilledMark> filledThroughDates;
+    
+    @PostConstruct
+    void initFilledMarks() {
+        filledThroughDates = Caffeine.newBuilder()
+                .maximumSize(filledMarkMaxSize)
+                .expireAfterAccess(Duration.ofDays(2))
+                .build();
+    }
     
     /**
      * 사용자의 오늘 질문 조회 (없으면 생성)
@@ -32,7 +63,8 @@ public class UserDailyQuestionService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
-        LocalDate today = LocalDate.now();
+        // 가족 시간대의 교체 시각 기준 오늘 (가족 오늘의 질문과 동일한 기준)
+        LocalDate today = familyClock.currentQuestionDate(user.getFamilyCode());
         
         // 오늘 질문이 이미 있는지 확인
         Optional<UserDailyQuestion> existingQuestion = 
@@ -47,111 +79,118 @@ public class UserDailyQuestionService {
     }
     
     /**
-     * 특정 사용자의 모든 질문 이력 조회
+     * 특정 사용자의 질문 이력 조회 (afterDate 이후부터 size개, size가 없으면 MAX_HISTORY_PAGE_SIZE개)
+     * 다음 페이지는 마지막 항목의 questionDate를 afterDate로 넘겨 조회
      */
     @Transactional(readOnly = true)
-    public List<UserDailyQuestion> getQuestionHistoryForUser(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    public List<UserDailyQuestionResponse> getQuestionHistoryForUser(Long userId, LocalDate afterDate, Integer size) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
         
-        return userDailyQuestionRepository.findByUserOrderByQuestionDateAsc(user);
+        return userDailyQuestionRepository.findResponsesByUserIdAfter(userId, afterDate, toPageable(size));
     }
     
     /**
      * 가족별 질문 이력 조회 (같은 가족은 동일한 질문을 받으므로 효율적)
      */
     @Transactional
-    public List<UserDailyQuestion> getQuestionHistoryForFamily(String familyCode) {
-        // 해당 가족의 첫 번째 사용자를 찾아서 그 사용자의 질문 이력을 조회
-        List<User> familyMembers = userRepository.findByFamilyCode(familyCode);
-        if (familyMembers.isEmpty()) {
-            throw new RuntimeException("해당 가족을 찾을 수 없습니다.");
-        }
-        
-        // 가장 먼저 가입한 사용자의 질문 이력을 기준으로 조회
-        User oldestMember = familyMembers.stream()
-                .min((u1, u2) -> u1.getCreatedAt().compareTo(u2.getCreatedAt()))
-                .orElseThrow(() -> new RuntimeException("가족 구성원을 찾을 수 없습니다."));
+    public List<UserDailyQuestionResponse> getQuestionHistoryForFamily(String familyCode, LocalDate afterDate, Integer size) {
+        // 가장 먼저 가입한 구성원의 질문 이력을 기준으로 사용 (families 기본 키 조회)
+        Long anchorUserId = familyService.getAnchorUserId(familyCode);
         
         // 먼저 누락된 질문들을 생성 (가입일~오늘까지)
-        generateMissingQuestionsForUser(oldestMember.getId());
+        generateMissingQuestionsForUser(anchorUserId);
         
-        // 그 다음 전체 질문 이력 조회 (오늘 질문 포함)
-        return userDailyQuestionRepository.findByUserOrderByQuestionDateAsc(oldestMember);
+        // 그 다음 질문 이력 조회 (오늘 질문 포함)
+        return userDailyQuestionRepository.findResponsesByUserIdAfter(anchorUserId, afterDate, toPageable(size));
     }
     
     /**
      * 가족별 특정 기간 질문 이력 조회
      */
     @Transactional(readOnly = true)
-    public List<UserDailyQuestion> getQuestionHistoryForFamilyByDateRange(String familyCode, 
+    public List<UserDailyQuestionResponse> getQuestionHistoryForFamilyByDateRange(String familyCode, 
                                                                           LocalDate startDate, 
                                                                           LocalDate endDate) {
-        List<User> familyMembers = userRepository.findByFamilyCode(familyCode);
-        if (familyMembers.isEmpty()) {
-            throw new RuntimeException("해당 가족을 찾을 수 없습니다.");
-        }
-        
-        // 가장 먼저 가입한 사용자의 질문 이력을 기준으로 조회
-        User oldestMember = familyMembers.stream()
-                .min((u1, u2) -> u1.getCreatedAt().compareTo(u2.getCreatedAt()))
-                .orElseThrow(() -> new RuntimeException("가족 구성원을 찾을 수 없습니다."));
+        // 가장 먼저 가입한 구성원의 질문 이력을 기준으로 사용 (families 기본 키 조회)
+        Long anchorUserId = familyService.getAnchorUserId(familyCode);
         
-        return userDailyQuestionRepository.findByUserAndDateRange(oldestMember, startDate, endDate);
+        return userDailyQuestionRepository.findResponsesByUserIdAndDateRange(anchorUserId, startDate, endDate);
     }
     
     /**
      * 사용자의 특정 기간 질문 이력 조회
      */
     @Transactional(readOnly = true)
-    public List<UserDailyQuestion> getQuestionHistoryForUserByDateRange(Long userId, 
-                                                                        LocalDate startDate, 
-                                                                        LocalDate endDate) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    public List<UserDailyQuestionResponse> getQuestionHistoryForUserByDateRange(Long userId, 
+                                                                                LocalDate startDate, 
+                                                                                LocalDate endDate) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
         
-        return userDailyQuestionRepository.findByUserAndDateRange(user, startDate, endDate);
+        return userDailyQuestionRepository.findResponsesByUserIdAndDateRange(userId, startDate, endDate);
     }
     
     /**
      * 가족의 누락된 질문들 생성 (가족 중 가장 먼저 가입한 사용자 기준)
      */
     public void generateMissingQuestionsForFamily(String familyCode) {
-        List<User> familyMembers = userRepository.findByFamilyCode(familyCode);
-        if (familyMembers.isEmpty()) {
-            throw new RuntimeException("해당 가족을 찾을 수 없습니다.");
-        }
+        // 가장 먼저 가입한 구성원의 질문 이력을 기준으로 사용 (families 기본 키 조회)
+        Long anchorUserId = familyService.getAnchorUserId(familyCode);
         
-        // 가장 먼저 가입한 사용자를 기준으로 질문 생성
-        User oldestMember = familyMembers.stream()
-                .min((u1, u2) -> u1.getCreatedAt().compareTo(u2.getCreatedAt()))
-                .orElseThrow(() -> new RuntimeException("가족 구성원을 찾을 수 없습니다."));
-        
-        generateMissingQuestionsForUser(oldestMember.getId());
+        generateMissingQuestionsForUser(anchorUserId);
     }
     
     /**
      * 사용자의 가입일부터 오늘까지 누락된 질문들을 생성
+     * (기존 날짜를 한 번에 조회하여 누락분만 배치 저장, 이미 채운 날짜 이후만 확인)
      */
     public void generateMissingQuestionsForUser(Long userId) {
+        FilledMark mark = filledThroughDates.getIfPresent(userId);
+        if (mark != null && !mark.filledThrough().isBefore(familyClock.currentQuestionDate(mark.familyCode()))) {
+            return;
+        }
+        
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
+        String familyCode = user.getFamilyCode();
+        LocalDate today = familyClock.currentQuestionDate(familyCode);
+        LocalDate filledDate = mark != null && mark.familyCode().equals(familyCode) ? mark.filledThrough() : null;
         LocalDate userJoinDate = user.getCreatedAt().toLocalDate();
-        LocalDate today = LocalDate.now();
+        LocalDate startDate = filledDate != null ? filledDate.plusDays(1) : userJoinDate;
         
-        // 가입일부터 오늘까지 각 날짜에 대해 질문 생성
-        LocalDate currentDate = userJoinDate;
-        while (!currentDate.isAfter(today)) {
-            Optional<UserDailyQuestion> existing = 
-                    userDailyQuestionRepository.findByUserAndQuestionDate(user, currentDate);
+        if (!startDate.isAfter(today)) {
+            Set<LocalDate> existingDates = new HashSet<>(userDailyQuestionRepository
+                    .findQuestionDatesByUserIdAndDateRange(userId, startDate, today));
+            Map<LocalDate, Question> familyQuestions = familyDailyQuestionService
+                    .getQuestionsForFamily(familyCode, startDate, today);
             
-            if (existing.isEmpty()) {
-                createDailyQuestionForUser(user, currentDate);
+            List<UserDailyQuestionJdbcRepository.NewRow> missingRows = new ArrayList<>();
+            for (LocalDate date = startDate; !date.isAfter(today); date = date.plusDays(1)) {
+                if (existingDates.contains(date)) {
+                    continue;
+                }
+                int dayNumber = (int) ChronoUnit.DAYS.between(userJoinDate, date) + 1;
+                missingRows.add(new UserDailyQuestionJdbcRepository.NewRow(
+                        userId, familyQuestions.get(date).getId(), date, dayNumber));
             }
             
-            currentDate = currentDate.plusDays(1);
+            userDailyQuestionJdbcRepository.batchInsertSkippingExisting(missingRows);
+            
+            if (!missingRows.isEmpty()) {
+                System.out.println("📅 사용자 " + user.getUserId() + "의 누락된 질문 " + missingRows.size() 
+                                 + "개가 생성되었습니다. (" + startDate + " ~ " + today + ")");
+            }
         }
+        
+        // 커밋된 이후에만 채운 날짜를 갱신 (롤백 시 다시 확인하도록)
+        FilledMark filledMark = new FilledMark(familyCode, today);
+        AfterCommit.run(() -> filledThroughDates.asMap().merge(userId, filledMark, 
+                (previous, current) -> previous.familyCode().equals(current.familyCode()) 
+                        && previous.filledThrough().isAfter(current.filledThrough()) ? previous : current));
     }
     
     /**
@@ -162,17 +201,8 @@ public class UserDailyQuestionService {
         LocalDate userJoinDate = user.getCreatedAt().toLocalDate();
         int dayNumber = (int) ChronoUnit.DAYS.between(userJoinDate, questionDate) + 1;
         
-        // 시스템 질문들 조회
-        List<Question> allQuestions = questionRepository.findByFamilyCode("SYSTEM");
-        if (allQuestions.isEmpty()) {
-            throw new RuntimeException("시스템 질문을 찾을 수 없습니다.");
-        }
-        
-        // 가족 코드와 날짜를 기반으로 한 시드를 사용하여 같은 가족은 같은 질문을 받도록 함
-        long seed = Math.abs(user.getFamilyCode().hashCode()) * 1000L + questionDate.toEpochDay();
-        Random random = new Random(seed);
-        
-        Question selectedQuestion = allQuestions.get(random.nextInt(allQuestions.size()));
+        // 가족 배정표에서 해당 날짜의 질문 조회
+        Question selectedQuestion = familyDailyQuestionService.getQuestionForFamily(user.getFamilyCode(), questionDate);
         
         // UserDailyQuestion 생성 및 저장
         UserDailyQuestion userDailyQuestion = new UserDailyQuestion(
@@ -185,4 +215,18 @@ public class UserDailyQuestionService {
         
         return saved;
     }
+    
+    // 페이지 크기 (미지정 시와 최대 모두 MAX_HISTORY_PAGE_SIZE, 이력이 길어도 한 번에 읽는 양은 일정)
+    private Pageable toPageable(Integer size) {
+        if (size == null) {
+            return PageRequest.of(0, MAX_HISTORY_PAGE_SIZE);
+        }
+        if (size < 1) {
+            throw new RuntimeException("페이지 크기는 1 이상이어야 합니다.");
+        }
+        return PageRequest.of(0, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+    }
+    
+    private record FilledMark(String familyCode, LocalDate filledThrough) {
+    }
 }
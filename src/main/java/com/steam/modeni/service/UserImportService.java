@@ -0,0 +1,226 @@
+package com.steam.modeni.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.steam.modeni.dto.SignupRequest;
+import com.steam.modeni.repository.UserJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * NDJSON(한 줄에 회원가입 요청 하나) 사용자 일괄 가져오기
+ * - 요청 본문을 한 줄씩 읽어 배치 단위로 처리 (전체를 메모리에 올리지 않음)
+ * - 배치마다 이미 있는 사용자ID를 먼저 걸러내고, 나머지 비밀번호를 코어 수만큼 병렬로 해시한 뒤 여러 행 INSERT 한 문장으로 저장
+ * - 잘못된 줄은 건너뛰고 줄 번호와 사유를 결과에 남김
+ */
+@Service
+@RequiredArgsConstructor
+public class UserImportService {
+    
+    private static final int MAX_REPORTED_ERRORS = 100;
+    
+    private final UserJdbcRepository userJdbcRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final FamilyService familyService;
+    private final FamilyDirectory familyDirectory;
+    private final FamilyCodeAllocator familyCodeAllocator;
+    
+    @Value("${user-import.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${user-import.hash-parallelism:0}") // 0이면 CPU 코어 수
+    private int hashParallelism;
+    
+    private ThreadPoolExecutor hashExecutor;
+    
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    
+    @PostConstruct
+    void initExecutor() {
+        int threads = hashParallelism > 0 ? hashParallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        hashExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-import-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+    
+    @PreDestroy
+    void shutdownExecutor() {
+        hashExecutor.shutdown();
+    }
+    
+    /**
+     * NDJSON 스트림에서 사용자 가져오기 (동시에 하나만 실행)
+     */
+    public Map<String, Object> importUsers(InputStream ndjson) {
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("사용자 가져오기가 이미 실행 중입니다.");
+        }
+        try {
+            return execute(ndjson);
+        } catch (IOException e) {
+            throw new RuntimeException("가져오기 데이터를 읽을 수 없습니다: " + e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+    
+    private Map<String, Object> execute(InputStream ndjson) throws IOException {
+        long startedAt = System.nanoTime();
+        ImportStats stats = new ImportStats();
+        
+        // 사용자ID -> 요청, 파일 안에서 같은 사용자ID가 다시 나오면 건너뜀
+        Map<String, SignupRequest> batch = new LinkedHashMap<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            stats.totalRows++;
+            
+            SignupRequest row = parse(line, lineNumber, stats);
+            if (row == null) {
+                continue;
+            }
+            if (batch.putIfAbsent(row.getUserId(), row) != null) {
+                stats.duplicatesInFile++;
+                continue;
+            }
+            if (batch.size() >= batchSize) {
+                flushBatch(batch, stats);
+                batch.clear();
+            }
+        }
+        flushBatch(batch, stats);
+        
+        long elapsedMillis = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        
+        Map<String, Object> result = new HashMap<>();
+        result.put("totalRows", stats.totalRows);
+        result.put("imported", stats.imported);
+        result.put("skippedExisting", stats.skippedExisting);
+        result.put("duplicatesInFile", stats.duplicatesInFile);
+        result.put("invalidRows", stats.invalidRows);
+        result.put("errors", stats.errors);
+        result.put("elapsedMillis", elapsedMillis);
+        result.put("usersPerSecond", stats.imported * 1000.0 / elapsedMillis);
+        
+        System.out.println("👥 사용자 가져오기 완료: " + stats.imported + "명 등록, 기존 " + stats.skippedExisting
+                         + "명 / 오류 " + stats.invalidRows + "줄 건너뜀, " + elapsedMillis + "ms");
+        return result;
+    }
+    
+    private SignupRequest parse(String line, int lineNumber, ImportStats stats) {
+        SignupRequest row;
+        try {
+            row = objectMapper.readValue(line, SignupRequest.class);
+        } catch (JsonProcessingException e) {
+            stats.reject(lineNumber, "JSON 형식이 올바르지 않습니다.");
+            return null;
+        }
+        
+        Set<ConstraintViolation<SignupRequest>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            stats.reject(lineNumber, violations.iterator().next().getMessage());
+            return null;
+        }
+        
+        // 가족 코드가 없으면 새로 발급, 서버 발급 형식의 오타는 줄 단위로 거부
+        try {
+            row.setFamilyCode(row.getFamilyCode() == null || row.getFamilyCode().isBlank()
+                    ? familyCodeAllocator.allocate()
+                    : familyCodeAllocator.normalize(row.getFamilyCode()));
+        } catch (RuntimeException e) {
+            stats.reject(lineNumber, e.getMessage());
+            return null;
+        }
+        return row;
+    }
+    
+    // 이미 있는 사용자ID는 해시 전에 제외하고, 나머지는 병렬 해시 후 한 번의 JDBC 배치로 저장
+    private void flushBatch(Map<String, SignupRequest> batch, ImportStats stats) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Set<String> existing = userJdbcRepository.findExistingUserIds(batch.keySet());
+        stats.skippedExisting += existing.size();
+        
+        List<CompletableFuture<UserJdbcRepository.NewUser>> hashed = new ArrayList<>(batch.size());
+        for (SignupRequest row : batch.values()) {
+            if (existing.contains(row.getUserId())) {
+                continue;
+            }
+            hashed.add(CompletableFuture.supplyAsync(() -> new UserJdbcRepository.NewUser(
+                    row.getUserId(), passwordEncoder.encode(row.getPassword()), row.getUsername(),
+                    row.getRole(), row.getRegion(), row.getAge(), row.getFamilyCode()), hashExecutor));
+        }
+        
+        List<UserJdbcRepository.NewUser> newUsers = new ArrayList<>(hashed.size());
+        for (CompletableFuture<UserJdbcRepository.NewUser> future : hashed) {
+            newUsers.add(future.join());
+        }
+        
+        // 조회 이후 다른 경로로 먼저 가입된 사용자ID는 건너뜀 (데이터 오류는 가져오기 전체를 중단)
+        List<UserJdbcRepository.NewUser> inserted = userJdbcRepository.insertSkippingExisting(newUsers, LocalDateTime.now());
+        stats.imported += inserted.size();
+        stats.skippedExisting += newUsers.size() - inserted.size();
+        
+        // 이번 배치로 구성원이 늘어난 가족의 행 생성 및 구성원 수/기준 구성원 갱신
+        Set<String> familyCodes = inserted.stream()
+                .map(UserJdbcRepository.NewUser::familyCode)
+                .collect(Collectors.toSet());
+        familyService.refreshMembership(familyCodes);
+        familyDirectory.invalidateFamilies(familyCodes);
+    }
+    
+    private static class ImportStats {
+        int totalRows;
+        int imported;
+        int skippedExisting;
+        int duplicatesInFile;
+        int invalidRows;
+        final List<String> errors = new ArrayList<>();
+        
+        void reject(int lineNumber, String reason) {
+            invalidRows++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(lineNumber + "번째 줄: " + reason);
+            }
+        }
+    }
+}
@@ -7,9 +7,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,6 +22,8 @@ import java.util.stream.Collectors;
 public class UserService {
     
     private final UserRepository userRepository;
+    private final FamilyService familyService;
+    private final FamilyDirectory familyDirectory;
     
     @Transactional(readOnly = true)
     public List<UserResponse> getAllUsers() {
@@ -27,10 +33,17 @@ public class UserService {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * 가족 구성원 목록 (구성원 id는 가족 캐시에서, 사용자 정보는 기본 키로 조회, 구성원이 없으면 DB 조회 없음)
+     */
     @Transactional(readOnly = true)
     public List<UserResponse> getUsersByFamilyCode(String familyCode) {
-        List<User> users = userRepository.findByFamilyCode(familyCode);
-        return users.stream()
+        Set<Long> memberIds = familyDirectory.membersOf(familyCode);
+        if (memberIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return userRepository.findAllById(memberIds).stream()
+                .sorted(Comparator.comparing(User::getId))
                 .map(this::convertToUserResponse)
                 .collect(Collectors.toList());
     }
@@ -70,6 +83,7 @@ public class UserService {
         }
         
         userRepository.save(user);
+        familyDirectory.invalidateUser(user.getId(), user.getFamilyCode());
         
         Map<String, String> response = new HashMap<>();
         response.put("message", "사용자 정보가 성공적으로 업데이트되었습니다.");
@@ -80,7 +94,12 @@ public class UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
+        String familyCode = user.getFamilyCode();
+        familyService.lockMembership(Collections.singletonList(familyCode));
         userRepository.delete(user);
+        userRepository.flush();
+        familyService.refreshMembership(Collections.singletonList(familyCode));
+        familyDirectory.invalidateUser(id, familyCode);
         
         Map<String, String> response = new HashMap<>();
         response.put("message", "사용자가 성공적으로 삭제되었습니다.");
@@ -0,0 +1,137 @@
+package com.steam.modeni.service;
+
+import com.steam.modeni.repository.FamilyCodeSequenceJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FamilyCodeAllocatorTest {
+
+	private static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+	private static final int BLOCK_SIZE = 4096;
+
+	@Mock
+	private FamilyCodeSequenceJdbcRepository sequenceRepository;
+
+	private FamilyCodeAllocator allocator;
+
+	@BeforeEach
+	void setUp() {
+		allocator = new FamilyCodeAllocator(sequenceRepository, BLOCK_SIZE, 7046029254386353131L);
+	}
+
+	@Test
+	void codesWithinReservedBlocksAreDistinct() {
+		when(sequenceRepository.reserveBlock(BLOCK_SIZE)).thenReturn(0L, (long) BLOCK_SIZE);
+
+		Set<String> codes = new HashSet<>();
+		for (int i = 0; i < 2 * BLOCK_SIZE; i++) {
+			codes.add(allocator.allocate());
+		}
+
+		// 순열이므로 카운터가 다르면 코드도 다름
+		assertThat(codes).hasSize(2 * BLOCK_SIZE);
+		verify(sequenceRepository, times(2)).reserveBlock(BLOCK_SIZE);
+	}
+
+	@Test
+	void allocatedCodesRoundTripThroughNormalize() {
+		for (String code : allocate(500)) {
+			assertThat(code).matches("[0-9A-HJKMNP-TV-Z]{4}-[0-9A-HJKMNP-TV-Z]{3}");
+			assertThat(allocator.normalize(code)).isEqualTo(code);
+			assertThat(allocator.normalize("  " + code.toLowerCase(Locale.ROOT) + " ")).isEqualTo(code);
+			assertThat(allocator.normalize(code.replace("-", ""))).isEqualTo(code);
+		}
+	}
+
+	@Test
+	void confusableLettersAreReadAsDigits() {
+		for (String code : allocate(500)) {
+			String typed = code.replace('0', 'O').replace('1', 'l');
+			assertThat(allocator.normalize(typed)).isEqualTo(code);
+		}
+	}
+
+	@Test
+	void everySingleCharacterTypoIsRejected() {
+		for (String code : allocate(200)) {
+			char[] compact = compact(code);
+			for (int i = 0; i < compact.length; i++) {
+				char original = compact[i];
+				for (int j = 0; j < ALPHABET.length(); j++) {
+					char replacement = ALPHABET.charAt(j);
+					if (replacement == original) {
+						continue;
+					}
+					compact[i] = replacement;
+					String typo = format(compact);
+					assertThatThrownBy(() -> allocator.normalize(typo))
+							.as("%s -> %s", code, typo)
+							.hasMessage("가족 코드를 다시 확인해주세요.");
+				}
+				compact[i] = original;
+			}
+		}
+	}
+
+	@Test
+	void everyAdjacentTranspositionIsRejected() {
+		for (String code : allocate(2000)) {
+			char[] compact = compact(code);
+			for (int i = 0; i + 1 < compact.length; i++) {
+				if (compact[i] == compact[i + 1]) {
+					continue;
+				}
+				char[] swapped = compact.clone();
+				swapped[i] = compact[i + 1];
+				swapped[i + 1] = compact[i];
+				String typo = format(swapped);
+				assertThatThrownBy(() -> allocator.normalize(typo))
+						.as("%s -> %s", code, typo)
+						.hasMessage("가족 코드를 다시 확인해주세요.");
+			}
+		}
+	}
+
+	@Test
+	void legacyCodesPassThroughUnchanged() {
+		assertThat(allocator.normalize("abc1234")).isEqualTo("abc1234");
+		assertThat(allocator.normalize("fam-123")).isEqualTo("fam-123");
+		assertThat(allocator.normalize(" ABCD1234 ")).isEqualTo("ABCD1234");
+		assertThat(allocator.normalize("가족코드")).isEqualTo("가족코드");
+		assertThat(allocator.normalize(null)).isNull();
+	}
+
+	private List<String> allocate(int count) {
+		when(sequenceRepository.reserveBlock(BLOCK_SIZE)).thenReturn(0L);
+		List<String> codes = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			codes.add(allocator.allocate());
+		}
+		return codes;
+	}
+
+	private static char[] compact(String code) {
+		return code.replace("-", "").toCharArray();
+	}
+
+	private static String format(char[] compact) {
+		String value = new String(compact);
+		return value.substring(0, 4) + "-" + value.substring(4);
+	}
+}
@@ -0,0 +1,130 @@
+package com.steam.modeni.service;
+
+import com.steam.modeni.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FamilyDirectoryTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	private final AtomicLong nanos = new AtomicLong();
+
+	private FamilyDirectory familyDirectory;
+
+	@BeforeEach
+	void setUp() {
+		familyDirectory = new FamilyDirectory(userRepository, 100, 100, 1000, nanos::get);
+	}
+
+	@AfterEach
+	void clearTransaction() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void membersAreLoadedOnceUntilInvalidated() {
+		when(userRepository.findIdsByFamilyCode("FAM1")).thenReturn(List.of(1L, 2L));
+
+		assertThat(familyDirectory.membersOf("FAM1")).containsExactlyInAnyOrder(1L, 2L);
+		assertThat(familyDirectory.membersOf("FAM1")).containsExactlyInAnyOrder(1L, 2L);
+		verify(userRepository, times(1)).findIdsByFamilyCode("FAM1");
+
+		familyDirectory.invalidateFamilies(Set.of("FAM1"));
+		familyDirectory.membersOf("FAM1");
+		verify(userRepository, times(2)).findIdsByFamilyCode("FAM1");
+	}
+
+	@Test
+	void unknownUserIsNotCached() {
+		when(userRepository.findFamilyCodeById(9L)).thenReturn(Optional.empty());
+
+		assertThat(familyDirectory.familyOf(9L)).isEmpty();
+		assertThat(familyDirectory.familyOf(9L)).isEmpty();
+		verify(userRepository, times(2)).findFamilyCodeById(9L);
+	}
+
+	@Test
+	void joinMovesUserBetweenFamilies() {
+		when(userRepository.findFamilyCodeById(1L)).thenReturn(Optional.of("OLD"));
+		when(userRepository.findIdsByFamilyCode("OLD")).thenReturn(List.of(1L, 2L));
+		when(userRepository.findIdsByFamilyCode("NEW")).thenReturn(List.of(3L));
+
+		assertThat(familyDirectory.isMember(1L, "OLD")).isTrue();
+		assertThat(familyDirectory.membersOf("OLD")).contains(1L);
+		assertThat(familyDirectory.membersOf("NEW")).doesNotContain(1L);
+
+		// DB 반영 후 무효화
+		when(userRepository.findFamilyCodeById(1L)).thenReturn(Optional.of("NEW"));
+		when(userRepository.findIdsByFamilyCode("OLD")).thenReturn(List.of(2L));
+		when(userRepository.findIdsByFamilyCode("NEW")).thenReturn(List.of(1L, 3L));
+		familyDirectory.invalidateUser(1L, "OLD", "NEW");
+
+		assertThat(familyDirectory.isMember(1L, "OLD")).isFalse();
+		assertThat(familyDirectory.isMember(1L, "NEW")).isTrue();
+		assertThat(familyDirectory.membersOf("OLD")).containsExactly(2L);
+		assertThat(familyDirectory.membersOf("NEW")).containsExactlyInAnyOrder(1L, 3L);
+	}
+
+	@Test
+	void staleValueReadDuringTransactionIsEvictedAfterCommit() {
+		when(userRepository.findFamilyCodeById(1L)).thenReturn(Optional.of("OLD"));
+		assertThat(familyDirectory.familyOf(1L)).contains("OLD");
+
+		TransactionSynchronizationManager.initSynchronization();
+		familyDirectory.invalidateUser(1L, "OLD", "NEW");
+
+		// 커밋 전 다른 요청이 아직 커밋되지 않은 변경 이전 값을 다시 캐시
+		assertThat(familyDirectory.familyOf(1L)).contains("OLD");
+
+		// 커밋
+		when(userRepository.findFamilyCodeById(1L)).thenReturn(Optional.of("NEW"));
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+		assertThat(familyDirectory.familyOf(1L)).contains("NEW");
+	}
+
+	@Test
+	void changeFromAnotherInstanceIsVisibleAfterExpiry() {
+		when(userRepository.findFamilyCodeById(1L)).thenReturn(Optional.of("OLD"));
+		assertThat(familyDirectory.familyOf(1L)).contains("OLD");
+
+		// 다른 인스턴스에서 가족 이동 (이 인스턴스에는 무효화가 오지 않음)
+		when(userRepository.findFamilyCodeById(1L)).thenReturn(Optional.of("NEW"));
+		nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+		assertThat(familyDirectory.familyOf(1L)).contains("OLD");
+
+		nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(2));
+		assertThat(familyDirectory.familyOf(1L)).contains("NEW");
+	}
+
+	@Test
+	void nullArgumentsAreNotMembers() {
+		assertThat(familyDirectory.isMember(null, "FAM1")).isFalse();
+		assertThat(familyDirectory.isMember(1L, null)).isFalse();
+		assertThat(familyDirectory.membersOf(null)).isEmpty();
+	}
+}
@@ -0,0 +1,91 @@
+package com.steam.modeni.service;
+
+import com.steam.modeni.service.QuestionRotationEngine.Segment;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionRotationEngineTest {
+
+	// 질문이 추가될 때마다 나뉘는 구간: 1개로 5바퀴, 2개로 10바퀴, 3개로 10바퀴, 7개로 10바퀴, 9개
+	private static final Segment[] SEGMENTS = {
+			new Segment(0, 0, 1),
+			new Segment(5, 5, 2),
+			new Segment(25, 15, 3),
+			new Segment(55, 25, 7),
+			new Segment(125, 35, 9)
+	};
+	private static final int[] FAMILY_HASHES = {0, 1, -1, 12345, "FAM1".hashCode(), Integer.MIN_VALUE};
+
+	@Test
+	void everyQuestionAppearsOncePerCycle() {
+		for (int familyHash : FAMILY_HASHES) {
+			for (int s = 0; s < SEGMENTS.length; s++) {
+				Segment segment = SEGMENTS[s];
+				for (long cycle = 0; cycle < cyclesIn(s); cycle++) {
+					Set<Integer> seen = new HashSet<>();
+					for (int position = 0; position < segment.size(); position++) {
+						long day = segment.startDay() + cycle * segment.size() + position;
+						int index = QuestionRotationEngine.rotationIndex(SEGMENTS, familyHash, day);
+						assertThat(index).isBetween(0, segment.size() - 1);
+						assertThat(seen.add(index))
+								.as("hash=%d, day=%d", familyHash, day)
+								.isTrue();
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	void noRepeatAcrossCycleBoundary() {
+		for (int familyHash : FAMILY_HASHES) {
+			int previous = QuestionRotationEngine.rotationIndex(SEGMENTS, familyHash, 0);
+			for (long day = 1; day < 215; day++) {
+				int index = QuestionRotationEngine.rotationIndex(SEGMENTS, familyHash, day);
+				// 질문이 하나뿐인 구간에서는 같은 질문이 반복될 수밖에 없음
+				if (!(sizeAt(day) == 1 && sizeAt(day - 1) == 1)) {
+					assertThat(index)
+							.as("hash=%d, day=%d", familyHash, day)
+							.isNotEqualTo(previous);
+				}
+				previous = index;
+			}
+		}
+	}
+
+	@Test
+	void permuteIsBijection() {
+		for (int size : new int[]{2, 3, 5, 16, 17, 100, 1000}) {
+			for (long key = 0; key < 20; key++) {
+				Set<Integer> seen = new HashSet<>();
+				for (int position = 0; position < size; position++) {
+					seen.add(QuestionRotationEngine.permute(position, size, key));
+				}
+				assertThat(seen).hasSize(size);
+				assertThat(seen).allMatch(index -> index >= 0 && index < size);
+			}
+		}
+	}
+
+	private static long cyclesIn(int segmentIndex) {
+		Segment segment = SEGMENTS[segmentIndex];
+		if (segmentIndex + 1 == SEGMENTS.length) {
+			return 10;
+		}
+		return (SEGMENTS[segmentIndex + 1].startDay() - segment.startDay()) / segment.size();
+	}
+
+	private static int sizeAt(long day) {
+		int size = SEGMENTS[0].size();
+		for (Segment segment : SEGMENTS) {
+			if (segment.startDay() <= day) {
+				size = segment.size();
+			}
+		}
+		return size;
+	}
+}
@@ -0,0 +1,39 @@
+package com.steam.modeni.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SystemQuestionCatalogTest {
+
+	private static final int[] BOUNDS = {
+			1, 2, 3, 7, 16, 30, 64, 100, 365, 1000, 1024, 4097,
+			(1 << 30) - 1, 1 << 30, (1 << 30) + 1, Integer.MAX_VALUE
+	};
+
+	@Test
+	void nextIntForSeedMatchesRandom() {
+		Random seeds = new Random(42);
+		for (int i = 0; i < 2000; i++) {
+			long seed = seeds.nextLong();
+			for (int bound : BOUNDS) {
+				assertThat(SystemQuestionCatalog.nextIntForSeed(seed, bound))
+						.as("seed=%d, bound=%d", seed, bound)
+						.isEqualTo(new Random(seed).nextInt(bound));
+			}
+		}
+	}
+
+	@Test
+	void nextIntForSeedMatchesRandomForSmallSeeds() {
+		for (long seed = -1000; seed <= 1000; seed++) {
+			for (int bound : BOUNDS) {
+				assertThat(SystemQuestionCatalog.nextIntForSeed(seed, bound))
+						.as("seed=%d, bound=%d", seed, bound)
+						.isEqualTo(new Random(seed).nextInt(bound));
+			}
+		}
+	}
+}